@@ -0,0 +1,54 @@
+package com.example.employeeapp.benchmark;
+
+import com.example.employeeapp.model.Employee;
+import com.example.employeeapp.service.EmployeeSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search latency over 1M indexed employees. SampleTime mode reports p50/p99/p99.9.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeSearchBenchmark {
+
+    private static final String[] LAST_NAMES = {
+            "Müller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer", "Wagner", "Becker", "Schulz", "Schäfer"
+    };
+    private static final String[] POSITIONS = {
+            "Softwareentwickler", "Produktmanagerin", "DevOps Engineer", "UX Designer", "Finanzanalyst"
+    };
+
+    @Param({"1000000"})
+    private int employees;
+
+    @Param({"muel", "schaf 4711", "entwickler mueller", "schaf designer"})
+    private String query;
+
+    private EmployeeSearchIndex index;
+
+    @Setup
+    public void setup() {
+        index = new EmployeeSearchIndex(null);
+        for (int i = 0; i < employees; i++) {
+            Employee e = new Employee();
+            e.setId((long) i + 1);
+            e.setFirstName("Vorname" + i);
+            e.setLastName(LAST_NAMES[i % LAST_NAMES.length]);
+            e.setEmail("mitarbeiter" + i + "@firma.de");
+            e.setPosition(POSITIONS[i % POSITIONS.length]);
+            index.put(e);
+        }
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(query, 50);
+    }
+}
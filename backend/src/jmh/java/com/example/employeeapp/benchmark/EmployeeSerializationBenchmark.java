@@ -0,0 +1,54 @@
+package com.example.employeeapp.benchmark;
+
+import com.example.employeeapp.model.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of writing an employee list response body, excluding the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeSerializationBenchmark {
+
+    private static final String[] POSITIONS = {
+            "Softwareentwickler", "Produktmanagerin", "DevOps Engineer", "UX Designer", "Finanzanalyst"
+    };
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private List<Employee> employees;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Employee e = new Employee();
+            e.setId((long) i + 1);
+            e.setFirstName("Vorname" + i);
+            e.setLastName("Nachname" + i);
+            e.setEmail("mitarbeiter" + i + "@firma.de");
+            e.setPosition(POSITIONS[i % POSITIONS.length]);
+            employees.add(e);
+        }
+    }
+
+    @Benchmark
+    public void writeList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), employees);
+    }
+}
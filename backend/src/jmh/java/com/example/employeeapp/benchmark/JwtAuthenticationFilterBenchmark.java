@@ -0,0 +1,57 @@
+package com.example.employeeapp.benchmark;
+
+import com.example.employeeapp.security.JwtAuthenticationFilter;
+import com.example.employeeapp.security.JwtTokenUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One authenticated request through the JWT filter with a no-op chain and an in-memory
+ * user lookup, i.e. the per-request security overhead without any database work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setup() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(10_000, meterRegistry);
+        User admin = new User("admin", "x", Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        UserDetailsService userDetailsService = username ->
+                new User(admin.getUsername(), admin.getPassword(), admin.getAuthorities());
+
+        filter = new JwtAuthenticationFilter(jwtTokenUtil, userDetailsService, meterRegistry);
+        authorization = "Bearer " + jwtTokenUtil.generateToken(admin);
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.employeeapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Request builders for the scenarios and the blocking calls they make while preparing. */
+final class Api {
+
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI base;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    Api(HttpClient client, URI base) {
+        this.client = client;
+        this.base = base;
+    }
+
+    HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    HttpRequest.Builder authorized(String path, String token) {
+        return request(path).header("Authorization", "Bearer " + token);
+    }
+
+    static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    String loginBody(String username, String password) {
+        return objectMapper.createObjectNode().put("username", username).put("password", password).toString();
+    }
+
+    String login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(request("/api/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(json(loginBody(username, password)))
+                .build());
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    /** Ids of up to {@code limit} employees, first page in id order. */
+    List<Long> employeeIds(int limit) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(request("/api/employees?fields=id&size=" + limit).GET().build());
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode row : objectMapper.readTree(response.body())) ids.add(row.get("id").asLong());
+        if (ids.isEmpty()) throw new IllegalStateException("No employees on " + base + "; seed the database first");
+        return ids;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned " + response.statusCode());
+        }
+        return response;
+    }
+}
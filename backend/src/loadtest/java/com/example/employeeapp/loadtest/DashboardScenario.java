@@ -0,0 +1,60 @@
+package com.example.employeeapp.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * What the dashboard does while people use it: mostly list pages, stats and search, some
+ * single-employee reads and the occasional batch read. Every request carries the admin's
+ * token, so the JWT filter and the rate-limit filter are on the path as in production.
+ */
+final class DashboardScenario implements Scenario {
+
+    private static final String[] SEARCH_TERMS = {"mü", "schmidt", "entw", "firma", "la", "dev ops", "ux"};
+    private static final String[] POSITIONS = {"Softwareentwickler", "Produktmanagerin", "DevOps Engineer", "UX Designer"};
+
+    private final SplittableRandom random = new SplittableRandom(24);
+    private Api api;
+    private String token;
+    private List<Long> ids;
+
+    @Override
+    public String name() {
+        return "dashboard";
+    }
+
+    @Override
+    public void prepare(Api api) throws Exception {
+        this.api = api;
+        this.token = api.login("admin", "admin");
+        this.ids = api.employeeIds(1000);
+    }
+
+    @Override
+    public Call next(long arrival) {
+        int pick = random.nextInt(100);
+        if (pick < 35) return get("list", "/api/employees?size=50&sort=lastName,firstName");
+        if (pick < 45) return get("list.filtered", "/api/employees?size=50&position="
+                + POSITIONS[random.nextInt(POSITIONS.length)].replace(" ", "%20") + "&fields=id,firstName,lastName");
+        if (pick < 65) return get("stats", "/api/employees/stats");
+        if (pick < 85) return get("search", "/api/employees/search?q="
+                + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)].replace(" ", "%20"));
+        if (pick < 97) return get("get", "/api/employees/" + randomId());
+
+        StringBuilder body = new StringBuilder("{\"ids\":[");
+        for (int i = 0; i < 20; i++) body.append(i == 0 ? "" : ",").append(randomId());
+        return new Call("batch-get", api.authorized("/api/employees/batch-get", token)
+                .header("Content-Type", "application/json")
+                .POST(Api.json(body.append("]}").toString()))
+                .build());
+    }
+
+    private Call get(String name, String path) {
+        return new Call(name, api.authorized(path, token).GET().build());
+    }
+
+    private long randomId() {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
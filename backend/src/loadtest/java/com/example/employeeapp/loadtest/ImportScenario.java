@@ -0,0 +1,79 @@
+package com.example.employeeapp.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Write-heavy mix of an HR sync: NDJSON imports of small batches, single creates, merge
+ * patches and bulk updates of existing rows. Emails carry a per-run prefix so repeated runs
+ * against the same database do not collide on the unique index.
+ */
+final class ImportScenario implements Scenario {
+
+    private static final int IMPORT_ROWS = 20;
+    private static final int BULK_ROWS = 10;
+    private static final String[] POSITIONS = {"Softwareentwickler", "Produktmanagerin", "DevOps Engineer", "UX Designer", "Architekt"};
+
+    private final SplittableRandom random = new SplittableRandom(24);
+    private final String run = Long.toString(System.currentTimeMillis(), 36);
+    private Api api;
+    private String token;
+    private List<Long> ids;
+    private long nextEmail;
+
+    @Override
+    public String name() {
+        return "import";
+    }
+
+    @Override
+    public void prepare(Api api) throws Exception {
+        this.api = api;
+        this.token = api.login("admin", "admin");
+        this.ids = api.employeeIds(1000);
+    }
+
+    @Override
+    public Call next(long arrival) {
+        int pick = random.nextInt(100);
+        if (pick < 40) {
+            StringBuilder ndjson = new StringBuilder();
+            for (int i = 0; i < IMPORT_ROWS; i++) ndjson.append(employee()).append('\n');
+            return write("import", "/api/employees/import", "application/x-ndjson", ndjson.toString());
+        }
+        if (pick < 70) return write("create", "/api/employees", "application/json", employee());
+        if (pick < 90) {
+            HttpRequest request = api.authorized("/api/employees/" + randomId(), token)
+                    .header("Content-Type", "application/merge-patch+json")
+                    .method("PATCH", Api.json("{\"position\":\"" + position() + "\"}"))
+                    .build();
+            return new Call("patch", request);
+        }
+        StringBuilder body = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < BULK_ROWS; i++) body.append(i == 0 ? "" : ",").append("{\"id\":").append(randomId()).append('}');
+        body.append("],\"set\":{\"position\":\"").append(position()).append("\"}}");
+        return write("bulk-update", "/api/employees/bulk-update", "application/json", body.toString());
+    }
+
+    private Call write(String name, String path, String contentType, String body) {
+        return new Call(name, api.authorized(path, token)
+                .header("Content-Type", contentType)
+                .POST(Api.json(body))
+                .build());
+    }
+
+    private String employee() {
+        long n = nextEmail++;
+        return "{\"firstName\":\"Last\",\"lastName\":\"Test" + n + "\",\"email\":\"load." + run + "." + n
+                + "@firma.de\",\"position\":\"" + position() + "\"}";
+    }
+
+    private String position() {
+        return POSITIONS[random.nextInt(POSITIONS.length)];
+    }
+
+    private long randomId() {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
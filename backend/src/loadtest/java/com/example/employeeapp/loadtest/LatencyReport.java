@@ -0,0 +1,194 @@
+package com.example.employeeapp.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies per call name in HdrHistograms (microseconds, 3 significant digits). Response
+ * threads record into {@link Recorder}s; {@link #tick} swaps out the interval histograms once
+ * per second, prints a throughput line and appends them to the report files:
+ *
+ * <ul>
+ *   <li>{@code <scenario>.hlog} - interval histograms, tagged by call name, for HistogramLogProcessor</li>
+ *   <li>{@code <scenario>-throughput.csv} - per second and call: requests, errors, throttled, p50, p99</li>
+ *   <li>{@code <scenario>-<call>.hgrm} - full percentile distribution of the run, for plotting</li>
+ * </ul>
+ */
+final class LatencyReport implements AutoCloseable {
+
+    private final String scenario;
+    private final Path dir;
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final PrintStream out;
+    private HistogramLogWriter log;
+    private PrintStream csv;
+    private long startMillis;
+    private long lastTickMillis;
+
+    LatencyReport(String scenario, Path dir, PrintStream out) {
+        this.scenario = scenario;
+        this.dir = dir;
+        this.out = out;
+    }
+
+    void record(String name, long latencyNanos, boolean success) {
+        Series s = series.computeIfAbsent(name, Series::new);
+        s.recorder.recordValue(Math.max(1, latencyNanos / 1000));
+        if (!success) s.errors.increment();
+    }
+
+    /** A call answered with 429; counted, but not a latency sample. */
+    void throttled(String name) {
+        series.computeIfAbsent(name, Series::new).throttled.increment();
+    }
+
+    /** An arrival that was not sent because too many requests were outstanding. */
+    void dropped() {
+        dropped.increment();
+    }
+
+    /** Discards the warm-up and opens the report files; the measured run starts now. */
+    void start() throws IOException {
+        for (Series s : series.values()) s.reset();
+        dropped.reset();
+        Files.createDirectories(dir);
+        startMillis = System.currentTimeMillis();
+        lastTickMillis = startMillis;
+        log = new HistogramLogWriter(dir.resolve(scenario + ".hlog").toFile());
+        log.outputLogFormatVersion();
+        log.outputStartTime(startMillis);
+        log.setBaseTime(startMillis);
+        log.outputLegend();
+        csv = new PrintStream(Files.newOutputStream(dir.resolve(scenario + "-throughput.csv")), true, "UTF-8");
+        csv.println("second,call,requests,errors,throttled,p50_ms,p99_ms");
+    }
+
+    void tick() {
+        long now = System.currentTimeMillis();
+        double seconds = Math.max(1, now - lastTickMillis) / 1000.0;
+        long second = (now - startMillis + 500) / 1000;
+        long requests = 0;
+        long errors = 0;
+        long throttled = 0;
+        Histogram all = new Histogram(3);
+        for (Series s : sorted().values()) {
+            Histogram interval = s.interval();
+            long intervalErrors = s.errors.sumThenReset();
+            long intervalThrottled = s.throttled.sumThenReset();
+            s.errorTotal += intervalErrors;
+            s.throttledTotal += intervalThrottled;
+            throttled += intervalThrottled;
+            if (interval.getTotalCount() == 0 && intervalThrottled == 0) continue;
+            interval.setStartTimeStamp(lastTickMillis);
+            interval.setEndTimeStamp(now);
+            interval.setTag(s.name);
+            if (log != null && interval.getTotalCount() > 0) log.outputIntervalHistogram(interval);
+            if (csv != null) {
+                csv.printf(Locale.ROOT, "%d,%s,%d,%d,%d,%.3f,%.3f%n", second, s.name, interval.getTotalCount(), intervalErrors,
+                        intervalThrottled, ms(interval.getValueAtPercentile(50)), ms(interval.getValueAtPercentile(99)));
+            }
+            requests += interval.getTotalCount();
+            errors += intervalErrors;
+            all.add(interval);
+        }
+        lastTickMillis = now;
+        out.printf(Locale.ROOT, "%5ds %8.0f req/s  errors %-6d throttled %-6d p50 %8.2f ms  p99 %8.2f ms  max %8.2f ms%n",
+                second, requests / seconds, errors, throttled, ms(all.getValueAtPercentile(50)),
+                ms(all.getValueAtPercentile(99)), ms(all.getMaxValue()));
+    }
+
+    /** Prints the summary table and writes the percentile distributions. */
+    void summary(double targetRate) throws IOException {
+        double seconds = Math.max(1, lastTickMillis - startMillis) / 1000.0;
+        out.printf(Locale.ROOT, "%n%s: target %.0f req/s, %.0f s measured, %d dropped%n", scenario, targetRate, seconds, dropped.sum());
+        out.printf(Locale.ROOT, "%-16s %9s %8s %9s %9s %9s %9s %9s %9s %9s%n",
+                "call", "requests", "errors", "throttled", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+        Histogram all = new Histogram(3);
+        long errors = 0;
+        long throttled = 0;
+        for (Series s : sorted().values()) {
+            row(s.name, s.total, s.errorTotal, s.throttledTotal, seconds);
+            all.add(s.total);
+            errors += s.errorTotal;
+            throttled += s.throttledTotal;
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(dir.resolve(scenario + "-" + s.name + ".hgrm")), true, "UTF-8")) {
+                s.total.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+        row("all", all, errors, throttled, seconds);
+        try (PrintStream hgrm = new PrintStream(Files.newOutputStream(dir.resolve(scenario + "-all.hgrm")), true, "UTF-8")) {
+            all.outputPercentileDistribution(hgrm, 1000.0);
+        }
+        if (throttled > 0) {
+            out.println("Warning: " + throttled + " calls were throttled (429); their latency is not in the percentiles."
+                    + " Run the target with app.rate-limit.enabled=false unless the limiter is what is being measured.");
+        }
+        out.println("Reports in " + dir.toAbsolutePath());
+    }
+
+    @Override
+    public void close() {
+        if (log != null) log.close();
+        if (csv != null) csv.close();
+    }
+
+    private void row(String name, Histogram h, long errors, long throttled, double seconds) {
+        out.printf(Locale.ROOT, "%-16s %9d %8d %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, h.getTotalCount(), errors, throttled, h.getTotalCount() / seconds,
+                ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(90)), ms(h.getValueAtPercentile(99)),
+                ms(h.getValueAtPercentile(99.9)), ms(h.getMaxValue()));
+    }
+
+    private Map<String, Series> sorted() {
+        return new TreeMap<>(series);
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+
+    // Only tick() and summary() touch the totals, both on the reporting thread
+    private static final class Series {
+
+        final String name;
+        final Recorder recorder = new Recorder(3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder throttled = new LongAdder();
+        final Histogram total = new Histogram(3);
+        long errorTotal;
+        long throttledTotal;
+        private Histogram recycled;
+
+        Series(String name) {
+            this.name = name;
+        }
+
+        Histogram interval() {
+            Histogram interval = recorder.getIntervalHistogram(recycled);
+            total.add(interval);
+            recycled = interval;
+            return interval;
+        }
+
+        void reset() {
+            recorder.reset();
+            errors.reset();
+            throttled.reset();
+            total.reset();
+            errorTotal = 0;
+            throttledTotal = 0;
+        }
+    }
+}
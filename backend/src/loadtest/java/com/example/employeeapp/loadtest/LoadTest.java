@@ -0,0 +1,120 @@
+package com.example.employeeapp.loadtest;
+
+import com.example.employeeapp.EmployeeAppApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open-loop load test of the full stack: HTTP, the JWT and rate-limit filters, Spring
+ * Security, Hibernate and the database. Without {@code --target} the app is started in this
+ * JVM on an ephemeral port with the default in-memory H2 database and the rate limiter off;
+ * with {@code --target=http://host:port} an already running build is tested instead.
+ *
+ * <pre>
+ * --scenario=login|dashboard|import   (required)
+ * --rate=200            arrivals per second
+ * --duration=60s        measured run
+ * --warmup=15s          run at the same rate before measuring, results discarded
+ * --max-in-flight=5000  outstanding requests before arrivals are dropped
+ * --report-dir=target/loadtest
+ * --profiles=...        Spring profiles for the embedded app
+ * </pre>
+ */
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        Scenario scenario = Scenario.named(required(options, "scenario"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        Duration duration = duration(options.getOrDefault("duration", "60s"));
+        Duration warmup = duration(options.getOrDefault("warmup", "15s"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "5000"));
+        Path reportDir = Path.of(options.getOrDefault("report-dir", "target/loadtest"));
+        String target = options.getOrDefault("target", "");
+
+        ConfigurableApplicationContext app = null;
+        URI base;
+        if (target.isBlank()) {
+            app = start(options.getOrDefault("profiles", ""));
+            base = URI.create("http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort());
+        } else {
+            base = URI.create(target);
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        try (LatencyReport report = new LatencyReport(scenario.name(), reportDir, System.out)) {
+            scenario.prepare(new Api(client, base));
+            OpenLoopDriver driver = new OpenLoopDriver(client, scenario, report, maxInFlight);
+            System.out.printf(Locale.ROOT, "%s against %s: %.0f req/s, warm-up %ss, run %ss%n",
+                    scenario.name(), base, rate, warmup.toSeconds(), duration.toSeconds());
+            if (!warmup.isZero()) driver.run(rate, warmup);
+
+            report.start();
+            ticker.scheduleAtFixedRate(report::tick, 1, 1, TimeUnit.SECONDS);
+            driver.run(rate, duration);
+            ticker.shutdown();
+            ticker.awaitTermination(5, TimeUnit.SECONDS);
+            report.tick();
+            report.summary(rate);
+        } finally {
+            ticker.shutdownNow();
+            if (app != null) app.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String profiles) {
+        SpringApplication application = new SpringApplication(EmployeeAppApplication.class);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        // One client address would be throttled within a second; the test measures the app, not the limiter
+        properties.put("app.rate-limit.enabled", "false");
+        properties.put("spring.main.banner-mode", "off");
+        application.setDefaultProperties(properties);
+        if (!profiles.isBlank()) application.setAdditionalProfiles(profiles.split(","));
+        return application.run();
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null || value.isBlank()) throw new IllegalArgumentException("--" + name + " is required");
+        return value;
+    }
+
+    // 90s, 5m or an ISO-8601 duration such as PT90S
+    private static Duration duration(String value) {
+        String v = value.trim().toLowerCase(Locale.ROOT);
+        if (v.startsWith("pt")) return Duration.parse(value);
+        if (v.endsWith("ms")) return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        if (v.endsWith("s")) return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        if (v.endsWith("m")) return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        return Duration.ofSeconds(Long.parseLong(v));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.employeeapp.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+
+/**
+ * Logins for the seeded users, one in ten with a wrong password: BCrypt verification, the
+ * bounded hashing pool, token issuing and the login audit queue, as when everyone signs in
+ * again after a deploy. Rejections by the hashing pool (429) are reported as throttled, not as
+ * errors or latency samples.
+ */
+final class LoginStormScenario implements Scenario {
+
+    private static final String[][] USERS = {
+            {"admin", "admin"},
+            {"max.mueller", "password123"},
+            {"lena.schmidt", "password123"},
+            {"jonas.fischer", "password123"},
+            {"laura.weber", "password123"},
+            {"paul.becker", "password123"},
+    };
+
+    private final SplittableRandom random = new SplittableRandom(24);
+    private Api api;
+
+    @Override
+    public String name() {
+        return "login";
+    }
+
+    @Override
+    public void prepare(Api api) {
+        this.api = api;
+    }
+
+    @Override
+    public Call next(long arrival) {
+        String[] user = USERS[(int) (arrival % USERS.length)];
+        boolean wrong = random.nextInt(10) == 0;
+        HttpRequest request = api.request("/api/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(Api.json(api.loginBody(user[0], wrong ? "wrong-" + user[1] : user[1])))
+                .build();
+        return wrong ? new Call("login.failed", request, Call.REJECTED) : new Call("login", request);
+    }
+}
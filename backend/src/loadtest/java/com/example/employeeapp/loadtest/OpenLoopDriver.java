@@ -0,0 +1,73 @@
+package com.example.employeeapp.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends the scenario's calls at a fixed arrival rate, whether or not earlier calls have
+ * answered (open loop). Latency is measured from the time a call was scheduled to start, not
+ * from when it was actually sent, so a stalled server shows up as queueing delay in the
+ * percentiles instead of silently lowering the request rate (coordinated omission).
+ *
+ * <p>Arrivals beyond {@code maxInFlight} outstanding calls are dropped and counted, so an
+ * overloaded server cannot make the generator itself run out of memory or sockets. Responses
+ * with 429 (rate limiter or a full hashing pool) are counted as throttled and kept out of the
+ * latency histograms, where their fast rejections would otherwise pull the percentiles down.
+ */
+final class OpenLoopDriver {
+
+    private final HttpClient client;
+    private final Scenario scenario;
+    private final LatencyReport report;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private long arrivals;
+
+    OpenLoopDriver(HttpClient client, Scenario scenario, LatencyReport report, int maxInFlight) {
+        this.client = client;
+        this.scenario = scenario;
+        this.report = report;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /** Schedules {@code rate} arrivals per second for {@code duration}, then waits for the stragglers. */
+    void run(double rate, Duration duration) throws InterruptedException {
+        long intervalNanos = Math.max(1, Math.round(1_000_000_000.0 / rate));
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) break;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) LockSupport.parkNanos(wait);
+            if (Thread.interrupted()) throw new InterruptedException();
+            fire(intended);
+        }
+        awaitInFlight(Api.REQUEST_TIMEOUT.plusSeconds(5));
+    }
+
+    private void fire(long intended) {
+        Scenario.Call call = scenario.next(arrivals++);
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            report.dropped();
+            return;
+        }
+        client.sendAsync(call.request(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long latency = System.nanoTime() - intended;
+                    inFlight.decrementAndGet();
+                    if (error == null && response.statusCode() == 429) report.throttled(call.name());
+                    else report.record(call.name(), latency, error == null && call.expected().test(response.statusCode()));
+                });
+    }
+
+    private void awaitInFlight(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) TimeUnit.MILLISECONDS.sleep(10);
+    }
+}
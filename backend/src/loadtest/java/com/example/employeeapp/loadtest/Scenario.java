@@ -0,0 +1,42 @@
+package com.example.employeeapp.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.IntPredicate;
+
+/**
+ * A scripted mix of requests. {@link #next} is called once per arrival, always from the
+ * driver's scheduling thread, so implementations need no synchronization for their own state.
+ */
+interface Scenario {
+
+    /**
+     * One request of the mix; {@code name} groups its latencies in the report and
+     * {@code expected} tells which statuses count as success.
+     */
+    record Call(String name, HttpRequest request, IntPredicate expected) {
+
+        static final IntPredicate OK = status -> status / 100 == 2;
+        // A client error the app answered on purpose, e.g. a wrong password; 429 is still overload
+        static final IntPredicate REJECTED = status -> status / 100 == 4 && status != 429;
+
+        Call(String name, HttpRequest request) {
+            this(name, request, OK);
+        }
+    }
+
+    String name();
+
+    /** Logs in, looks up ids etc. before the clock starts. */
+    default void prepare(Api api) throws Exception {}
+
+    Call next(long arrival);
+
+    static Scenario named(String name) {
+        return switch (name) {
+            case "login" -> new LoginStormScenario();
+            case "dashboard" -> new DashboardScenario();
+            case "import" -> new ImportScenario();
+            default -> throw new IllegalArgumentException("Unknown scenario '" + name + "'; use login, dashboard or import");
+        };
+    }
+}
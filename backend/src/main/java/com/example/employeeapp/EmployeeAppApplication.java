@@ -2,74 +2,55 @@ package com.example.employeeapp;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.context.annotation.Bean;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import com.example.employeeapp.model.User;
 import com.example.employeeapp.model.Employee;
 import com.example.employeeapp.repository.UserRepository;
 import com.example.employeeapp.repository.EmployeeRepository;
+import com.example.employeeapp.service.CollectionVersions;
 import java.util.Arrays;
 import java.util.List;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.boot.CommandLineRunner;
 
 @SpringBootApplication
 public class EmployeeAppApplication {
     public static void main(String[] args) {
-        SpringApplication.run(EmployeeAppApplication.class, args);
+        SpringApplication app = new SpringApplication(EmployeeAppApplication.class);
+        // Records startup steps for StartupTimingReport and /actuator/startup
+        app.setApplicationStartup(new BufferingApplicationStartup(4096));
+        app.run(args);
     }
 
+    // What seedEmployees does on boot: RESET deletes and reinserts the demo rows (default, the
+    // tests rely on it), IF_EMPTY only fills an empty table, NONE skips it.
+    public enum SeedMode { RESET, IF_EMPTY, NONE }
+
     @Bean
-    public CommandLineRunner seedUsers(UserRepository userRepository) {
+    public CommandLineRunner seedUsers(UserRepository userRepository, PasswordEncoder encoder,
+                                       CollectionVersions versions,
+                                       @Value("${app.seed.users:true}") boolean enabled) {
         return args -> {
-            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-            
+            if (!enabled) return;
+
             // Check if users already exist
             if (userRepository.findByUsername("admin").isEmpty()) {
-                // Admin user
-                User admin = new User();
-                admin.setUsername("admin");
-                admin.setPassword(encoder.encode("admin"));
-                admin.setRole("ROLE_ADMIN");
-                admin.setEmail("admin@firma.de");
-                userRepository.save(admin);
-                
-                // Regular users
-                User user1 = new User();
-                user1.setUsername("max.mueller");
-                user1.setPassword(encoder.encode("password123"));
-                user1.setRole("ROLE_USER");
-                user1.setEmail("max.mueller@firma.de");
-                userRepository.save(user1);
-                
-                User user2 = new User();
-                user2.setUsername("lena.schmidt");
-                user2.setPassword(encoder.encode("password123"));
-                user2.setRole("ROLE_USER");
-                user2.setEmail("lena.schmidt@firma.de");
-                userRepository.save(user2);
-                
-                User user3 = new User();
-                user3.setUsername("jonas.fischer");
-                user3.setPassword(encoder.encode("password123"));
-                user3.setRole("ROLE_USER");
-                user3.setEmail("jonas.fischer@firma.de");
-                userRepository.save(user3);
-                
-                User user4 = new User();
-                user4.setUsername("laura.weber");
-                user4.setPassword(encoder.encode("password123"));
-                user4.setRole("ROLE_USER");
-                user4.setEmail("laura.weber@firma.de");
-                userRepository.save(user4);
-                
-                User user5 = new User();
-                user5.setUsername("paul.becker");
-                user5.setPassword(encoder.encode("password123"));
-                user5.setRole("ROLE_ADMIN");
-                user5.setEmail("paul.becker@firma.de");
-                userRepository.save(user5);
-                
+                List<User> seeds = Arrays.asList(
+                        seedUser("admin", "admin@firma.de", "admin", "ROLE_ADMIN"),
+                        seedUser("max.mueller", "max.mueller@firma.de", "password123", "ROLE_USER"),
+                        seedUser("lena.schmidt", "lena.schmidt@firma.de", "password123", "ROLE_USER"),
+                        seedUser("jonas.fischer", "jonas.fischer@firma.de", "password123", "ROLE_USER"),
+                        seedUser("laura.weber", "laura.weber@firma.de", "password123", "ROLE_USER"),
+                        seedUser("paul.becker", "paul.becker@firma.de", "password123", "ROLE_ADMIN"));
+
+                // The encoder hashes on its own pool, so submitting all six at once hashes them in
+                // parallel instead of paying six BCrypt rounds back to back
+                seeds.parallelStream().forEach(u -> u.setPassword(encoder.encode(u.getPassword())));
+                userRepository.saveAll(seeds);
+                versions.bump(CollectionVersions.Collection.USERS);
+
                 System.out.println("Seeded 6 users (2 admins, 4 regular users)");
                 System.out.println("Admin users: admin/admin, paul.becker/password123");
                 System.out.println("Regular users: max.mueller, lena.schmidt, jonas.fischer, laura.weber (all password: password123)");
@@ -77,11 +58,27 @@ public class EmployeeAppApplication {
         };
     }
 
+    // Holds the raw password until seedUsers hashes it
+    private static User seedUser(String username, String email, String rawPassword, String role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword(rawPassword);
+        user.setRole(role);
+        user.setEmail(email);
+        return user;
+    }
+
     @Bean
-    public CommandLineRunner seedEmployees(EmployeeRepository employeeRepository) {
+    public CommandLineRunner seedEmployees(EmployeeRepository employeeRepository,
+                                           CollectionVersions versions,
+                                           @Value("${app.seed.employees:reset}") SeedMode mode) {
         return args -> {
-            System.out.println("Seeding employees: deleting existing employees...");
-            employeeRepository.deleteAll();
+            if (mode == SeedMode.NONE) return;
+            if (mode == SeedMode.IF_EMPTY && employeeRepository.count() > 0) return;
+            if (mode == SeedMode.RESET) {
+                System.out.println("Seeding employees: deleting existing employees...");
+                employeeRepository.deleteAll();
+            }
 
             Employee e1 = new Employee();
             e1.setFirstName("Maximilian"); e1.setLastName("Müller"); e1.setEmail("max.mueller@firma.de"); e1.setPosition("Softwareentwickler");
@@ -115,6 +112,8 @@ public class EmployeeAppApplication {
 
             List<Employee> seeds = Arrays.asList(e1,e2,e3,e4,e5,e6,e7,e8,e9,e10);
             employeeRepository.saveAll(seeds);
+            // Tags issued before a RESET must not match the reinserted rows
+            versions.bump(CollectionVersions.Collection.EMPLOYEES);
             System.out.println("Seeded " + seeds.size() + " employees.");
         };
     }
@@ -0,0 +1,34 @@
+package com.example.employeeapp.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Remembers callers (and users) that wrote recently. Their reads stay on the primary for
+ * {@code app.datasource.read-your-writes-window}, which should exceed the replication lag.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(@Value("${app.datasource.read-your-writes-window:5s}") Duration window,
+                                 @Value("${app.datasource.read-your-writes-max-keys:100000}") long maxKeys) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void markWrite(String key) {
+        recentWriters.put(key, Boolean.TRUE);
+    }
+
+    public boolean recentlyWrote(String key) {
+        return recentWriters.getIfPresent(key) != null;
+    }
+}
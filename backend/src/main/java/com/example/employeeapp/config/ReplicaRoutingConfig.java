@@ -0,0 +1,118 @@
+package com.example.employeeapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas, enabled by setting {@code app.datasource.replicas.urls} (comma separated).
+ * The primary keeps using {@code spring.datasource.*}; replicas share its credentials unless
+ * {@code app.datasource.replicas.username/password} are set.
+ *
+ * <p>Write requests that succeed mark their caller (username, or IP when anonymous) in
+ * {@link ReadYourWritesTracker}; that caller's requests are pinned to the primary for the
+ * read-your-writes window.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.urls")
+public class ReplicaRoutingConfig implements WebMvcConfigurer {
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReplicaRoutingConfig(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(DataSourceProperties properties,
+                                                      MeterRegistry meterRegistry,
+                                                      @Value("${app.datasource.replicas.urls}") List<String> urls,
+                                                      @Value("${app.datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                                      @Value("${app.datasource.replicas.password:${spring.datasource.password:}}") String password,
+                                                      @Value("${app.datasource.replicas.pool-size:10}") int poolSize) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(metrics);
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) continue;
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(metrics);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AsyncHandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                // A write request's own reads (existence checks, reloads) must see its writes too
+                if (isWrite(request) || tracker.recentlyWrote(callerKey(request))) {
+                    ReplicaRoutingDataSource.pinToPrimary();
+                }
+                return true;
+            }
+
+            // The request thread goes back to the container while the async part runs elsewhere;
+            // afterCompletion then runs on another thread, so the pin must not stay behind here
+            @Override
+            public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                ReplicaRoutingDataSource.unpin();
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+                ReplicaRoutingDataSource.unpin();
+                // Only writes that went through; a rejected request changed nothing worth reading back.
+                // Ordinary JSON answers are still in the response buffer at this point, so the
+                // caller is marked before it can see the response.
+                if (isWrite(request) && ex == null && response.getStatus() < 400) {
+                    tracker.markWrite(callerKey(request));
+                }
+            }
+        });
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
+    }
+
+    static String callerKey(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : "ip:" + request.getRemoteAddr();
+    }
+}
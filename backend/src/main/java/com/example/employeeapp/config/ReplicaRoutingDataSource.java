@@ -0,0 +1,89 @@
+package com.example.employeeapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for read-only transactions to the replicas (round robin) and everything
+ * else to the primary. Must sit behind a {@code LazyConnectionDataSourceProxy}: JPA asks for the
+ * connection when the transaction begins, before the read-only flag is visible here, and the
+ * proxy defers the real lookup until the first statement.
+ *
+ * <p>{@link #onPrimary} and {@link #pinToPrimary} force the primary for the current thread,
+ * e.g. for a caller that has just written and must read its own writes.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryLookups;
+    private final Counter replicaLookups;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        this.primaryLookups = Counter.builder("datasource.routing").tag("target", "primary")
+                .description("Connections handed out per routing target").register(meterRegistry);
+        this.replicaLookups = Counter.builder("datasource.routing").tag("target", "replica")
+                .description("Connections handed out per routing target").register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty()
+                || Boolean.TRUE.equals(PRIMARY_ONLY.get())
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryLookups.increment();
+            return PRIMARY;
+        }
+        replicaLookups.increment();
+        return Math.floorMod(next.getAndIncrement(), replicas.size());
+    }
+
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) PRIMARY_ONLY.remove(); else PRIMARY_ONLY.set(previous);
+        }
+    }
+
+    public static void pinToPrimary() {
+        PRIMARY_ONLY.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PRIMARY_ONLY.remove();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) closeable.close();
+        }
+        if (primary instanceof AutoCloseable closeable) closeable.close();
+    }
+}
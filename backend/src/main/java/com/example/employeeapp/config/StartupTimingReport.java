@@ -0,0 +1,95 @@
+package com.example.employeeapp.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Logs one line per boot that splits startup into phases: JVM start until {@code main} hands
+ * over to Spring, context refresh, the {@code CommandLineRunner}s (seeding) and the time until
+ * the application is ready, followed by the slowest bean instantiations. Bean times come from
+ * the {@link BufferingApplicationStartup} installed in {@code main} and include the beans they
+ * pull in; the full timeline is served at {@code /actuator/startup}.
+ */
+@Component
+public class StartupTimingReport {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimingReport.class);
+    private static final String REFRESH_STEP = "spring.context.refresh";
+    private static final String BEAN_STEP = "spring.beans.instantiate";
+
+    private final ApplicationStartup applicationStartup;
+    private final int topBeans;
+    private volatile Duration started;
+
+    public StartupTimingReport(ApplicationStartup applicationStartup,
+                               @Value("${app.diagnostics.startup.top-beans:10}") int topBeans) {
+        this.applicationStartup = applicationStartup;
+        this.topBeans = topBeans;
+    }
+
+    @EventListener
+    public void onStarted(ApplicationStartedEvent event) {
+        started = event.getTimeTaken();
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        Duration ready = event.getTimeTaken();
+        if (started == null || ready == null) return;
+
+        StringBuilder report = new StringBuilder("Startup phases:");
+        if (applicationStartup instanceof BufferingApplicationStartup buffering) {
+            StartupTimeline timeline = buffering.getBufferedTimeline();
+            long jvmToSpring = timeline.getStartTime().toEpochMilli()
+                    - ManagementFactory.getRuntimeMXBean().getStartTime();
+            report.append(" jvm=").append(jvmToSpring).append("ms");
+            Duration refresh = timeline.getEvents().stream()
+                    .filter(e -> REFRESH_STEP.equals(e.getStartupStep().getName()))
+                    .map(StartupTimeline.TimelineEvent::getDuration)
+                    .reduce(Duration.ZERO, Duration::plus);
+            report.append(" refresh=").append(refresh.toMillis()).append("ms");
+            appendPhases(report, ready);
+            report.append(" slowest-beans=").append(slowestBeans(timeline.getEvents()));
+        } else {
+            appendPhases(report, ready);
+        }
+        log.info(report.toString());
+    }
+
+    private void appendPhases(StringBuilder report, Duration ready) {
+        report.append(" context=").append(started.toMillis()).append("ms")
+                .append(" runners=").append(ready.minus(started).toMillis()).append("ms")
+                .append(" ready=").append(ready.toMillis()).append("ms");
+    }
+
+    private String slowestBeans(List<StartupTimeline.TimelineEvent> events) {
+        return events.stream()
+                .filter(e -> BEAN_STEP.equals(e.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(topBeans)
+                .map(e -> beanName(e.getStartupStep()) + "=" + e.getDuration().toMillis() + "ms")
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) return tag.getValue();
+        }
+        return "?";
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.employeeapp.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports virtual threads pinned to their carrier, which happens when a virtual thread blocks
+ * inside a {@code synchronized} block (JDBC drivers and older pool code are the usual suspects).
+ * Only active with {@code spring.threads.virtual.enabled=true}. Pinning events come from JFR;
+ * right after startup a burst of more concurrent queries than the connection pool can serve is
+ * run on virtual threads, so contention in the pool and driver shows up in the log immediately.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningDiagnostics implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningDiagnostics.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String[] JDBC_PACKAGES = {"com.zaxxer.hikari.", "org.postgresql.", "org.h2.", "java.sql.", "org.hibernate."};
+    private static final int MAX_LOGGED_FRAMES = 12;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration threshold;
+    private final int probeConcurrency;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private final AtomicLong pinnedInJdbcCount = new AtomicLong();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningDiagnostics(JdbcTemplate jdbcTemplate,
+                                           @Value("${app.diagnostics.pinning.threshold:20ms}") Duration threshold,
+                                           @Value("${app.diagnostics.pinning.probe-concurrency:32}") int probeConcurrency) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.threshold = threshold;
+        this.probeConcurrency = probeConcurrency;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        if (probeConcurrency > 0) {
+            probe();
+        }
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    public long getPinnedInJdbcCount() {
+        return pinnedInJdbcCount.get();
+    }
+
+    private void probe() {
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("pinning-probe-");
+        List<CompletableFuture<Void>> queries = new ArrayList<>(probeConcurrency);
+        for (int i = 0; i < probeConcurrency; i++) {
+            queries.add(CompletableFuture.runAsync(
+                    () -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Long.class), executor));
+        }
+        try {
+            CompletableFuture.allOf(queries.toArray(CompletableFuture[]::new)).join();
+            log.info("Virtual-thread JDBC probe ran {} concurrent queries; pinned events above {} are logged as they arrive",
+                    probeConcurrency, threshold);
+        } catch (RuntimeException ex) {
+            log.warn("Virtual-thread JDBC probe failed", ex);
+        }
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        StringBuilder frames = new StringBuilder();
+        boolean inJdbc = false;
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            int logged = 0;
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (!frame.isJavaFrame()) continue;
+                String type = frame.getMethod().getType().getName();
+                boolean jdbcFrame = isJdbc(type);
+                inJdbc |= jdbcFrame;
+                if (logged++ < MAX_LOGGED_FRAMES) {
+                    frames.append("\n    ").append(jdbcFrame ? "> " : "  ")
+                            .append(type).append('.').append(frame.getMethod().getName())
+                            .append(':').append(frame.getLineNumber());
+                }
+            }
+        }
+        if (inJdbc) pinnedInJdbcCount.incrementAndGet();
+        log.warn("Virtual thread pinned for {} ms{}{}", event.getDuration().toMillis(),
+                inJdbc ? " inside JDBC/connection pool code" : "", frames);
+    }
+
+    private static boolean isJdbc(String type) {
+        for (String prefix : JDBC_PACKAGES) {
+            if (type.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) stream.close();
+    }
+}
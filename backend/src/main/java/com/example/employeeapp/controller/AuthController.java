@@ -8,15 +8,20 @@ import com.example.employeeapp.dto.LoginResponse;
 import com.example.employeeapp.dto.RegisterRequest;
 import com.example.employeeapp.dto.RegisterResponse;
 import com.example.employeeapp.exception.DuplicateUsernameException;
+import com.example.employeeapp.service.ChangeFeed;
+import com.example.employeeapp.service.CollectionVersions;
+import com.example.employeeapp.service.CustomUserDetailsService;
+import com.example.employeeapp.service.LoginAuditService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -31,22 +36,40 @@ public class AuthController {
     private JwtTokenUtil jwtTokenUtil;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private CustomUserDetailsService userDetailsService;
 
     @Autowired
     private UserRepository userRepository;
 
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private CollectionVersions versions;
+
+    @Autowired
+    private LoginAuditService loginAudit;
+
+    @Autowired
+    private ChangeFeed changes;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
 
     @Operation(summary = "User login", description = "Authenticate user and return JWT token")
     @PostMapping("/login")
-    public LoginResponse login(@RequestBody LoginRequest request) {
+    public LoginResponse login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         String username = request.getUsername();
         String password = request.getPassword();
 
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(username, password)
-        );
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(username, password)
+            );
+        } catch (AuthenticationException ex) {
+            loginAudit.record(username, false, httpRequest.getRemoteAddr());
+            throw ex;
+        }
+        // Queued only; written to login_audit and users.last_login_at in the background
+        loginAudit.record(username, true, httpRequest.getRemoteAddr());
 
         UserDetails userDetails = userDetailsService.loadUserByUsername(username);
         String token = jwtTokenUtil.generateToken(userDetails);
@@ -72,7 +95,10 @@ public class AuthController {
         user.setPassword(passwordEncoder.encode(password));
         user.setRole(role);
         userRepository.save(user);
-        
+        versions.bump(CollectionVersions.Collection.USERS);
+        userDetailsService.evict(username);
+        changes.created(ChangeFeed.Collection.USERS, UsersController.view(user));
+
         return new RegisterResponse("User registered successfully", username);
     }
 }
@@ -0,0 +1,30 @@
+package com.example.employeeapp.controller;
+
+import com.example.employeeapp.service.ChangeFeed;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/changes")
+public class ChangesController {
+
+    private final ChangeFeed changeFeed;
+
+    public ChangesController(ChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    // Server-Sent Events: employee.created/updated/deleted, user.created/updated and reset
+    // (reload everything). EventSource resends Last-Event-ID on reconnect; clients that cannot
+    // set headers pass it as ?lastEventId=.
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                                @RequestParam(required = false) String lastEventId) {
+        return changeFeed.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.employeeapp.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared conditional GET handling for the JSON resources. Tags are weak ({@code W/"..."}):
+ * the representations are semantically equivalent whatever the transfer coding, and Tomcat
+ * does not gzip a response that carries a strong ETag. The tag also names the body format
+ * (JSON, Smile or CBOR) picked from the Accept header, and {@code Vary: Accept} tells caches
+ * that the format depends on it.
+ */
+final class ConditionalGets {
+
+    // Body formats with their tag suffix, in the order negotiation prefers them on a tie
+    private static final List<Map.Entry<MediaType, String>> FORMATS = List.of(
+            Map.entry(MediaType.APPLICATION_JSON, "json"),
+            Map.entry(MediaType.parseMediaType("application/x-jackson-smile"), "smile"),
+            Map.entry(MediaType.parseMediaType("application/cbor"), "cbor"));
+
+    private static final Comparator<MediaType> PREFERENCE = Comparator
+            .<MediaType>comparingDouble(MediaType::getQualityValue).reversed()
+            .thenComparing(MediaType::isWildcardType)
+            .thenComparing(MediaType::isWildcardSubtype);
+
+    private ConditionalGets() {}
+
+    /**
+     * Answers 304 when the request's If-None-Match matches {@code tag} for the negotiated
+     * format; otherwise sets the ETag and lets the handler write the body. no-cache makes
+     * browsers revalidate on every poll instead of guessing freshness.
+     */
+    static boolean notModified(ServletWebRequest request, String tag) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return request.checkNotModified("W/\"" + tag + "-" + format(request.getHeader(HttpHeaders.ACCEPT)) + "\"");
+    }
+
+    // Mirrors the message converter choice: the most preferred acceptable type that one of the
+    // formats satisfies; JSON for a missing or unparseable header
+    static String format(String accept) {
+        if (accept == null || accept.isBlank()) return "json";
+        List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return "json";
+        }
+        acceptable.sort(PREFERENCE);
+        for (MediaType requested : acceptable) {
+            if (requested.getQualityValue() == 0) continue;
+            for (Map.Entry<MediaType, String> format : FORMATS) {
+                if (requested.isCompatibleWith(format.getKey())) return format.getValue();
+            }
+        }
+        return "json";
+    }
+}
@@ -1,54 +1,454 @@
 package com.example.employeeapp.controller;
 
+import com.example.employeeapp.dto.EmployeeBatchGetRequest;
+import com.example.employeeapp.dto.EmployeeBulkRequest;
+import com.example.employeeapp.dto.EmployeeBulkResult;
+import com.example.employeeapp.dto.EmployeeImportReport;
+import com.example.employeeapp.dto.EmployeeStats;
+import com.example.employeeapp.exception.InvalidBulkRequestException;
+import com.example.employeeapp.exception.InvalidCursorException;
+import com.example.employeeapp.exception.InvalidPatchException;
+import com.example.employeeapp.exception.InvalidQueryParameterException;
 import com.example.employeeapp.model.Employee;
+import com.example.employeeapp.repository.EmployeeCursorRepository;
+import com.example.employeeapp.repository.EmployeeQueryRepository;
 import com.example.employeeapp.repository.EmployeeRepository;
+import com.example.employeeapp.repository.EmployeeSpecifications;
+import com.example.employeeapp.repository.EmployeeWriteRepository;
+import com.example.employeeapp.service.ChangeFeed;
+import com.example.employeeapp.service.CollectionVersions;
+import com.example.employeeapp.service.EmployeeBulkService;
+import com.example.employeeapp.service.EmployeeImportService;
+import com.example.employeeapp.service.EmployeeReadModel;
+import com.example.employeeapp.service.EmployeeSearchIndex;
+import com.example.employeeapp.service.EmployeeStatsService;
+import com.example.employeeapp.service.ExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/employees")
 public class EmployeeController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "firstName", "lastName", "email", "position");
+
     private final EmployeeRepository repo;
+    private final EmployeeCursorRepository cursorRepo;
+    private final EmployeeQueryRepository queryRepo;
+    private final EmployeeWriteRepository writes;
+    private final EmployeeBulkService bulkService;
+    private final EmployeeImportService importService;
+    private final ExportService exportService;
+    private final EmployeeSearchIndex searchIndex;
+    private final EmployeeReadModel readModel;
+    private final EmployeeStatsService statsService;
+    private final CollectionVersions versions;
+    private final ChangeFeed changes;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxSearchResults;
 
-    public EmployeeController(EmployeeRepository repo) {
+    public EmployeeController(EmployeeRepository repo,
+                              EmployeeCursorRepository cursorRepo,
+                              EmployeeQueryRepository queryRepo,
+                              EmployeeWriteRepository writes,
+                              EmployeeBulkService bulkService,
+                              EmployeeImportService importService,
+                              ExportService exportService,
+                              EmployeeSearchIndex searchIndex,
+                              EmployeeReadModel readModel,
+                              EmployeeStatsService statsService,
+                              CollectionVersions versions,
+                              ChangeFeed changes,
+                              ObjectMapper objectMapper,
+                              Validator validator,
+                              @Value("${app.employees.page.default-size:100}") int defaultPageSize,
+                              @Value("${app.employees.page.max-size:1000}") int maxPageSize,
+                              @Value("${app.employees.search.max-results:50}") int maxSearchResults) {
         this.repo = repo;
+        this.cursorRepo = cursorRepo;
+        this.queryRepo = queryRepo;
+        this.writes = writes;
+        this.bulkService = bulkService;
+        this.importService = importService;
+        this.exportService = exportService;
+        this.searchIndex = searchIndex;
+        this.readModel = readModel;
+        this.statsService = statsService;
+        this.versions = versions;
+        this.changes = changes;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxSearchResults = maxSearchResults;
     }
 
+    // One keyset page, ordered by id unless sort is given. Filters, sort and the sparse fieldset
+    // are applied in SQL:
+    //   position=Entwickler    exact position
+    //   emailDomain=firma.de   case-insensitive email domain
+    //   name=mü                case-insensitive prefix of first or last name
+    //   sort=lastName,-firstName  ascending unless prefixed with '-'; id is always the last key
+    //   fields=id,lastName     only these properties are selected and returned
+    // The token for the following page is sent in X-Next-Cursor and is absent on the last page.
+    // The tag and the page are read in one transaction, so both come from the same replica.
     @GetMapping
-    public List<Employee> list() {
-        return repo.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Map<String, Object>>> list(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer size,
+                                                          @RequestParam(required = false) String position,
+                                                          @RequestParam(required = false) String emailDomain,
+                                                          @RequestParam(required = false) String name,
+                                                          @RequestParam(required = false) String sort,
+                                                          @RequestParam(required = false) String fields,
+                                                          ServletWebRequest request) {
+        if (notModified(request, "list:" + cursor + ":" + size + ":" + position + ":" + emailDomain
+                + ":" + name + ":" + sort + ":" + fields)) return null;
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        List<Sort.Order> order = parseSort(sort);
+        String sortKey = sortKey(order);
+        Set<String> requested = parseFields(fields);
+
+        EmployeeReadModel.Filter filter = new EmployeeReadModel.Filter(
+                trimToNull(position), trimToNull(emailDomain), trimToNull(name));
+
+        // The sort keys are needed for the next cursor even when they are not requested
+        Set<String> selected = new LinkedHashSet<>(requested);
+        for (Sort.Order o : order) selected.add(o.getProperty());
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<Map<String, Object>> rows = readModel.isServing()
+                ? fromReadModel(filter, order, sortKey, cursor, selected, pageSize + 1)
+                : fromDatabase(filter, order, sortKey, cursor, selected, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<Map<String, Object>> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String next = null;
+        if (hasNext) {
+            Map<String, Object> last = page.get(pageSize - 1);
+            List<Object> lastValues = new ArrayList<>(order.size());
+            for (Sort.Order o : order) lastValues.add(last.get(o.getProperty()));
+            next = KeysetCursor.encode(sortKey, lastValues);
+        }
+        if (selected.size() > requested.size()) {
+            for (Map<String, Object> row : page) row.keySet().retainAll(requested);
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (next != null) response.header(NEXT_CURSOR_HEADER, next);
+        return response.body(page);
+    }
+
+    private List<Map<String, Object>> fromDatabase(EmployeeReadModel.Filter filter, List<Sort.Order> order, String sortKey,
+                                                   String cursor, Set<String> selected, int limit) {
+        List<Specification<Employee>> filters = new ArrayList<>();
+        if (filter.position() != null) filters.add(EmployeeSpecifications.hasPosition(filter.position()));
+        if (filter.emailDomain() != null) filters.add(EmployeeSpecifications.hasEmailDomain(filter.emailDomain()));
+        if (filter.name() != null) filters.add(EmployeeSpecifications.nameStartsWith(filter.name()));
+        if (cursor != null) filters.add(afterCursor(order, sortKey, cursor));
+        return queryRepo.find(Specification.allOf(filters), order, selected, limit);
+    }
+
+    // Same page from the columnar read model when app.employees.read-model.enabled is set
+    private List<Map<String, Object>> fromReadModel(EmployeeReadModel.Filter filter, List<Sort.Order> order, String sortKey,
+                                                    String cursor, Set<String> selected, int limit) {
+        try {
+            return readModel.find(filter, order, cursor == null ? null : KeysetCursor.decode(cursor, sortKey), selected, limit);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static Specification<Employee> afterCursor(List<Sort.Order> order, String sortKey, String cursor) {
+        try {
+            return EmployeeSpecifications.after(order, KeysetCursor.decode(cursor, sortKey));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
     }
 
+    private static List<Sort.Order> parseSort(String sort) {
+        List<Sort.Order> order = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        if (sort != null) {
+            for (String part : sort.split(",")) {
+                String field = part.trim();
+                if (field.isEmpty()) continue;
+                boolean descending = field.startsWith("-");
+                if (descending) field = field.substring(1);
+                if (!SORTABLE_FIELDS.contains(field)) {
+                    throw new InvalidQueryParameterException("Cannot sort by '" + field + "'; sortable: " + SORTABLE_FIELDS);
+                }
+                if (!seen.add(field)) continue;
+                order.add(descending ? Sort.Order.desc(field) : Sort.Order.asc(field));
+            }
+        }
+        // id is unique, so it makes the order total and keyset pages never skip or repeat rows
+        if (!seen.contains("id")) order.add(Sort.Order.asc("id"));
+        return order;
+    }
+
+    private static String sortKey(List<Sort.Order> order) {
+        StringBuilder key = new StringBuilder();
+        for (Sort.Order o : order) {
+            if (key.length() > 0) key.append(',');
+            key.append(o.isAscending() ? "" : "-").append(o.getProperty());
+        }
+        return key.toString();
+    }
+
+    private static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) return new LinkedHashSet<>(EmployeeQueryRepository.FIELDS);
+        Set<String> requested = new LinkedHashSet<>();
+        for (String part : fields.split(",")) {
+            String field = part.trim();
+            if (field.isEmpty()) continue;
+            if (!EmployeeQueryRepository.FIELDS.contains(field)) {
+                throw new InvalidQueryParameterException("Unknown field '" + field + "'; available: " + EmployeeQueryRepository.FIELDS);
+            }
+            requested.add(field);
+        }
+        if (requested.isEmpty()) throw new InvalidQueryParameterException("fields must name at least one field");
+        return requested;
+    }
+
+    // Whole table as one JSON array, written row by row from a JDBC cursor
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void stream(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            gen.writeStartArray();
+            cursorRepo.forEach(e -> {
+                try {
+                    gen.writeObject(e);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            gen.writeEndArray();
+        }
+    }
+
+    // Full dump for HR as NDJSON or CSV; gzip-encoded when the client accepts it
+    @GetMapping("/export")
+    public void export(@RequestParam(defaultValue = "ndjson") String format,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        ExportResponses.write(exportService, ExportService.Table.EMPLOYEES, format, request, response);
+    }
+
+    // Prefix, accent-insensitive search over name, email and position; all terms must match
+    @GetMapping("/search")
+    public List<Employee> search(@RequestParam String q, @RequestParam(required = false) Integer limit,
+                                 ServletWebRequest request) {
+        if (notModified(request, "search:" + q + ":" + limit)) return null;
+        int max = limit == null ? maxSearchResults : Math.max(1, Math.min(limit, maxSearchResults));
+        List<Long> ids = searchIndex.search(q, max);
+        if (ids.isEmpty()) return List.of();
+        // findAllById gives no order guarantee; keep the index order
+        Map<Long, Employee> byId = new HashMap<>();
+        for (Employee e : repo.findAllById(ids)) byId.put(e.getId(), e);
+        List<Employee> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Employee e = byId.get(id);
+            if (e != null) result.add(e);
+        }
+        return result;
+    }
+
+    // Dashboard aggregates from in-memory counters; never scans the table
+    @GetMapping("/stats")
+    public EmployeeStats stats(ServletWebRequest request) {
+        if (notModified(request, "stats")) return null;
+        return statsService.snapshot();
+    }
+
+    // Tagged with the row's own version, so writes to other employees do not invalidate it.
+    // Read from the database rather than this instance's second-level cache, which does not see
+    // other instances' writes and would pair a stale body with its stale version.
     @GetMapping("/{id}")
-    public ResponseEntity<Employee> get(@PathVariable Long id) {
-        return repo.findById(id).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Employee> get(@PathVariable Long id, ServletWebRequest request) {
+        Optional<Employee> employee = repo.findCurrentById(id);
+        if (employee.isEmpty()) return ResponseEntity.notFound().build();
+        if (ConditionalGets.notModified(request, "employee-" + id + "-" + employee.get().getVersion())) return null;
+        return ResponseEntity.ok(employee.get());
     }
 
     @PostMapping
     public Employee create(@Valid @RequestBody Employee e) {
         e.setId(null);
-        return repo.save(e);
+        e.setVersion(null);
+        Employee saved = repo.save(e);
+        searchIndex.put(saved);
+        readModel.put(saved);
+        statsService.added(saved);
+        versions.bump(CollectionVersions.Collection.EMPLOYEES);
+        changes.created(ChangeFeed.Collection.EMPLOYEES, saved);
+        return saved;
+    }
+
+    // Bulk import from an HR export; CSV needs a header row naming firstName, lastName, email, position
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public EmployeeImportReport importCsv(InputStream body) throws IOException {
+        return imported(importService.importEmployees(body, EmployeeImportService.Format.CSV));
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public EmployeeImportReport importNdjson(InputStream body) throws IOException {
+        return imported(importService.importEmployees(body, EmployeeImportService.Format.NDJSON));
+    }
+
+    // One reset event for the whole import instead of a created event per row
+    private EmployeeImportReport imported(EmployeeImportReport report) {
+        if (report.getImported() > 0) changes.reset(ChangeFeed.Collection.EMPLOYEES);
+        return report;
     }
 
+    // Full replacement of the four attributes. A version in the body makes it conditional (409
+    // when the row has moved on); without one the last write wins.
     @PutMapping("/{id}")
     public ResponseEntity<Employee> update(@PathVariable Long id, @Valid @RequestBody Employee e) {
-        return repo.findById(id).map(existing -> {
-            existing.setFirstName(e.getFirstName());
-            existing.setLastName(e.getLastName());
-            existing.setEmail(e.getEmail());
-            existing.setPosition(e.getPosition());
-            repo.save(existing);
-            return ResponseEntity.ok(existing);
-        }).orElse(ResponseEntity.notFound().build());
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("firstName", e.getFirstName());
+        values.put("lastName", e.getLastName());
+        values.put("email", e.getEmail());
+        values.put("position", e.getPosition());
+        return write(id, e.getVersion(), values);
     }
 
+    // JSON Merge Patch of firstName, lastName, email and/or position, conditional like PUT
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Employee> patch(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        Map<String, String> values = MergePatch.values(patch, id, EmployeeWriteRepository.COLUMNS.keySet(), Set.of());
+        validate(values);
+        // An empty patch changes nothing
+        if (values.isEmpty()) return repo.findById(id).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        return write(id, MergePatch.version(patch), values);
+    }
+
+    // One UPDATE; the statement returns the previous row for the stats and the search index
+    private ResponseEntity<Employee> write(long id, Long version, Map<String, String> values) {
+        Optional<EmployeeWriteRepository.Change> change = writes.update(id, version, values);
+        if (change.isEmpty()) return missingOrConflict(id, version);
+        Employee before = change.get().before();
+        Employee after = change.get().after();
+        searchIndex.put(after);
+        readModel.put(after);
+        statsService.changed(before.getPosition(), before.getEmail(), after);
+        versions.bump(CollectionVersions.Collection.EMPLOYEES);
+        changes.updated(ChangeFeed.Collection.EMPLOYEES, after);
+        return ResponseEntity.ok(after);
+    }
+
+    // One DELETE, conditional when ?version= is given
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> delete(@PathVariable Long id) {
-        if (!repo.existsById(id)) return ResponseEntity.notFound().build();
-        repo.deleteById(id);
+    public ResponseEntity<?> delete(@PathVariable Long id, @RequestParam(required = false) Long version) {
+        Optional<Employee> removed = writes.delete(id, version);
+        if (removed.isEmpty()) return missingOrConflict(id, version);
+        searchIndex.remove(id);
+        readModel.remove(removed.get());
+        statsService.removed(removed.get());
+        versions.bump(CollectionVersions.Collection.EMPLOYEES);
+        changes.deleted(ChangeFeed.Collection.EMPLOYEES, id);
         return ResponseEntity.noContent().build();
     }
+
+    // Many ids in one request: one IN query per chunk, results in request order with 200 or 404 each
+    @PostMapping("/batch-get")
+    public EmployeeBulkResult batchGet(@RequestBody EmployeeBatchGetRequest request) {
+        return bulkService.get(request.getIds());
+    }
+
+    // Sets the same attributes on every item in one transaction; each item may carry the version
+    // it was read at. Per-id 200, 404 or 409; a stale item does not roll back the others.
+    @PostMapping("/bulk-update")
+    public EmployeeBulkResult bulkUpdate(@RequestBody EmployeeBulkRequest request) {
+        Map<String, Object> set = request.getSet();
+        if (set == null || set.isEmpty()) throw new InvalidBulkRequestException("set must name at least one attribute");
+        if (set.containsKey("version") || set.containsKey("id")) {
+            throw new InvalidBulkRequestException("set may only contain " + EmployeeWriteRepository.COLUMNS.keySet());
+        }
+        Map<String, String> values = MergePatch.values(set, -1, EmployeeWriteRepository.COLUMNS.keySet(), Set.of());
+        validate(values);
+        List<EmployeeWriteRepository.Target> targets = targets(request);
+        // The same address on two rows always violates the unique index, so fail before writing
+        if (values.containsKey("email") && targets.stream().map(EmployeeWriteRepository.Target::id).distinct().count() > 1) {
+            throw new InvalidBulkRequestException("email is unique and can only be set on a single employee");
+        }
+        return bulkService.update(targets, values);
+    }
+
+    // Deletes every item in one transaction; per-id 204, 404 or 409
+    @PostMapping("/bulk-delete")
+    public EmployeeBulkResult bulkDelete(@RequestBody EmployeeBulkRequest request) {
+        if (request.getSet() != null) throw new InvalidBulkRequestException("set is not allowed for bulk-delete");
+        return bulkService.delete(targets(request));
+    }
+
+    private static List<EmployeeWriteRepository.Target> targets(EmployeeBulkRequest request) {
+        if (request.getItems() == null) return List.of();
+        List<EmployeeWriteRepository.Target> targets = new ArrayList<>(request.getItems().size());
+        for (EmployeeBulkRequest.Item item : request.getItems()) {
+            if (item == null || item.getId() == null) throw new InvalidBulkRequestException("Every item needs an id");
+            targets.add(new EmployeeWriteRepository.Target(item.getId(), item.getVersion()));
+        }
+        return targets;
+    }
+
+    private void validate(Map<String, String> values) {
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            Set<ConstraintViolation<Employee>> violations = validator.validateValue(Employee.class, value.getKey(), value.getValue());
+            if (!violations.isEmpty()) {
+                throw new InvalidPatchException(value.getKey() + ": " + violations.iterator().next().getMessage());
+            }
+        }
+    }
+
+    // Only reached when a write matched no row: a stale version is a conflict, anything else 404
+    private <T> ResponseEntity<T> missingOrConflict(long id, Long version) {
+        if (version != null && repo.existsById(id)) {
+            throw new ObjectOptimisticLockingFailureException(Employee.class, id);
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+    // Conditional GET against the collection version: answers 304 after one primary-key lookup.
+    // The in-memory views (search, stats) are updated before each bump, so their tags never run ahead.
+    private boolean notModified(ServletWebRequest request, String variant) {
+        return ConditionalGets.notModified(request, versions.current(CollectionVersions.Collection.EMPLOYEES).tag(variant));
+    }
 }
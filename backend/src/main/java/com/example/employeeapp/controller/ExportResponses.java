@@ -0,0 +1,54 @@
+package com.example.employeeapp.controller;
+
+import com.example.employeeapp.service.ExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Shared response handling for the table export endpoints: content type, download
+ * file name and optional gzip when the client sends {@code Accept-Encoding: gzip}.
+ */
+final class ExportResponses {
+
+    private ExportResponses() {}
+
+    static void write(ExportService exportService, ExportService.Table table, String format,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ExportService.Format f = ExportService.Format.from(format);
+        response.setContentType(f.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + table.fileName() + "." + f.extension() + "\"");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        OutputStream out = response.getOutputStream();
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            out = new GZIPOutputStream(out, 8192);
+        }
+        try (OutputStream body = out) {
+            exportService.export(table, f, body);
+        }
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (!tokens[0].trim().equalsIgnoreCase("gzip")) continue;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim().replace(" ", "");
+                if (param.equals("q=0") || param.equals("q=0.0") || param.equals("q=0.00") || param.equals("q=0.000")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
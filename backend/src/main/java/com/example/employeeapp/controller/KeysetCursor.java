@@ -0,0 +1,61 @@
+package com.example.employeeapp.controller;
+
+import com.example.employeeapp.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Opaque next-page token for keyset pagination. Clients only ever echo it back,
+ * so the encoding can change without breaking them. It holds the sort the page was
+ * read with and the sort-key values of the last row on it; a cursor is only valid
+ * for the sort it was issued for.
+ */
+public final class KeysetCursor {
+
+    private static final String PREFIX = "keys:";
+    // Tokens issued before sorting existed: last id of an id-ordered page
+    private static final String LEGACY_PREFIX = "id:";
+    private static final String ID_SORT = "id";
+
+    private KeysetCursor() {}
+
+    public static String encode(String sort, List<?> lastValues) {
+        StringBuilder raw = new StringBuilder(PREFIX).append(part(sort));
+        for (Object value : lastValues) {
+            raw.append('.').append(part(String.valueOf(value)));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Sort-key values of the last row of the previous page, as strings in sort order. */
+    public static List<String> decode(String cursor, String sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (raw.startsWith(LEGACY_PREFIX) && ID_SORT.equals(sort)) {
+                return List.of(Long.toString(Long.parseLong(raw.substring(LEGACY_PREFIX.length()))));
+            }
+            if (!raw.startsWith(PREFIX)) throw new InvalidCursorException("Invalid cursor");
+            String[] parts = raw.substring(PREFIX.length()).split("\\.", -1);
+            if (!sort.equals(unpart(parts[0]))) {
+                throw new InvalidCursorException("Cursor was issued for a different sort");
+            }
+            List<String> values = new ArrayList<>(parts.length - 1);
+            for (int i = 1; i < parts.length; i++) values.add(unpart(parts[i]));
+            return values;
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    // Values may contain any character, so each one is encoded on its own before joining with '.'
+    private static String part(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String unpart(String part) {
+        return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+}
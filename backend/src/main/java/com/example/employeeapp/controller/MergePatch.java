@@ -0,0 +1,45 @@
+package com.example.employeeapp.controller;
+
+import com.example.employeeapp.exception.InvalidPatchException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads a JSON Merge Patch (RFC 7396) document for the flat string resources of this API.
+ * Members name the attributes to set; {@code null} clears an attribute, which only
+ * {@code nullable} ones allow. {@code version}, when present, is the version the patch was
+ * made against and is not an attribute; {@code id} may repeat the id from the path.
+ */
+final class MergePatch {
+
+    static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private MergePatch() {}
+
+    static Map<String, String> values(Map<String, Object> patch, long id, Set<String> attributes, Set<String> nullable) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> member : patch.entrySet()) {
+            String name = member.getKey();
+            Object value = member.getValue();
+            if ("version".equals(name)) continue;
+            if ("id".equals(name)) {
+                if (!(value instanceof Number n) || n.longValue() != id) throw new InvalidPatchException("id cannot be changed");
+                continue;
+            }
+            if (!attributes.contains(name)) throw new InvalidPatchException("Cannot patch '" + name + "'; patchable: " + attributes);
+            if (value == null && !nullable.contains(name)) throw new InvalidPatchException(name + " cannot be removed");
+            if (value != null && !(value instanceof String)) throw new InvalidPatchException(name + " must be a string");
+            values.put(name, (String) value);
+        }
+        return values;
+    }
+
+    static Long version(Map<String, Object> patch) {
+        Object version = patch.get("version");
+        if (version == null) return null;
+        if (version instanceof Integer || version instanceof Long) return ((Number) version).longValue();
+        throw new InvalidPatchException("version must be an integer");
+    }
+}
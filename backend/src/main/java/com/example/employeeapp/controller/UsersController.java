@@ -2,13 +2,29 @@ package com.example.employeeapp.controller;
 
 import com.example.employeeapp.model.User;
 import com.example.employeeapp.repository.UserRepository;
+import com.example.employeeapp.repository.UserWriteRepository;
+import com.example.employeeapp.service.ChangeFeed;
+import com.example.employeeapp.service.CollectionVersions;
+import com.example.employeeapp.service.CustomUserDetailsService;
+import com.example.employeeapp.service.ExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/users")
@@ -17,12 +33,40 @@ public class UsersController {
     @Autowired
     private UserRepository userRepository;
 
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private CollectionVersions versions;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ChangeFeed changes;
+
+    @Autowired
+    private UserWriteRepository userWrites;
 
     @GetMapping
-    public List<User> list() {
-        // return users without passwords in a simple way (entity contains password, but frontend will ignore it)
-        return userRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> list(ServletWebRequest request) {
+        // Conditional GET: 304 from the collection version, without loading the users. Tag and
+        // rows are read in this one transaction, so both come from the same replica.
+        if (ConditionalGets.notModified(request, versions.current(CollectionVersions.Collection.USERS).tag("list"))) return null;
+        // Public endpoint: the same view as the writes, so neither password hashes nor login times leave
+        return userRepository.findAll().stream().map(UsersController::view).toList();
+    }
+
+    // Full dump without password hashes; requires authentication unlike GET /api/users
+    @GetMapping("/export")
+    public void export(@RequestParam(defaultValue = "ndjson") String format,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        ExportResponses.write(exportService, ExportService.Table.USERS, format, request, response);
     }
 
     @PostMapping
@@ -44,27 +88,75 @@ public class UsersController {
         u.setPassword(passwordEncoder.encode(password));
         u.setRole(role.startsWith("ROLE_") ? role : ("ROLE_" + role));
         userRepository.save(u);
-        return ResponseEntity.ok(Map.of("id", u.getId(), "username", u.getUsername(), "email", u.getEmail(), "role", u.getRole()));
+        versions.bump(CollectionVersions.Collection.USERS);
+        userDetailsService.evict(username);
+        Map<String, Object> created = view(u);
+        changes.created(ChangeFeed.Collection.USERS, created);
+        return ResponseEntity.ok(created);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<?> update(@PathVariable Long id, @RequestBody Map<String, String> body) {
-        return userRepository.findById(id).map(u -> {
-            String email = body.get("email");
-            if (email != null) u.setEmail(email);
-            userRepository.save(u);
-            return ResponseEntity.ok(Map.of("id", u.getId(), "username", u.getUsername(), "email", u.getEmail(), "role", u.getRole()));
-        }).orElse(ResponseEntity.notFound().build());
+        String email = body.get("email");
+        if (email == null) {
+            // Nothing to change
+            return userRepository.findById(id).<ResponseEntity<?>>map(u -> ResponseEntity.ok(view(u)))
+                    .orElse(ResponseEntity.notFound().build());
+        }
+        return write(id, null, Map.of("email", email), UsersController::view);
     }
 
     @PutMapping("/{id}/role")
     public ResponseEntity<?> setRole(@PathVariable Long id, @RequestBody Map<String, String> body) {
         String role = body.get("role");
         if (role == null) return ResponseEntity.badRequest().body("role is required");
-        return userRepository.findById(id).map(u -> {
-            u.setRole(role.startsWith("ROLE_") ? role : ("ROLE_" + role));
-            userRepository.save(u);
-            return ResponseEntity.ok(Map.of("id", u.getId(), "role", u.getRole()));
-        }).orElse(ResponseEntity.notFound().build());
+        return write(id, null, Map.of("role", normalizeRole(role)), UsersController::view);
+    }
+
+    // JSON Merge Patch of email and/or role. With "version" in the body the update only applies
+    // to that version and answers 409 otherwise.
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> patch(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        Map<String, String> values = MergePatch.values(patch, id, UserWriteRepository.COLUMNS.keySet(), Set.of("email"));
+        if (values.containsKey("role")) values.put("role", normalizeRole(values.get("role")));
+        if (values.isEmpty()) {
+            return userRepository.findById(id).<ResponseEntity<?>>map(u -> ResponseEntity.ok(view(u)))
+                    .orElse(ResponseEntity.notFound().build());
+        }
+        return write(id, MergePatch.version(patch), values, UsersController::view);
+    }
+
+    // One UPDATE, which also returns the username whose cached details have to go
+    private ResponseEntity<?> write(long id, Long version, Map<String, String> values, Function<User, Map<String, Object>> body) {
+        Optional<UserWriteRepository.Change> change = userWrites.update(id, version, values);
+        if (change.isEmpty()) {
+            // Only on the failure path: tell a stale version apart from a missing row
+            if (version != null && userRepository.existsById(id)) {
+                throw new ObjectOptimisticLockingFailureException(User.class, id);
+            }
+            return ResponseEntity.notFound().build();
+        }
+        User after = change.get().after();
+        versions.bump(CollectionVersions.Collection.USERS);
+        userDetailsService.evict(after.getUsername());
+        Map<String, Object> updated = body.apply(after);
+        changes.updated(ChangeFeed.Collection.USERS, updated);
+        return ResponseEntity.ok(updated);
+    }
+
+    // The one shape of a user in responses and user.* events, also for AuthController.register.
+    // Email may be null, which Map.of does not allow
+    static Map<String, Object> view(User u) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", u.getId());
+        view.put("username", u.getUsername());
+        view.put("email", u.getEmail());
+        view.put("role", u.getRole());
+        view.put("version", u.getVersion());
+        return view;
+    }
+
+    private static String normalizeRole(String role) {
+        return role.startsWith("ROLE_") ? role : ("ROLE_" + role);
     }
 }
@@ -0,0 +1,22 @@
+package com.example.employeeapp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Employee ids to fetch in one request")
+public class EmployeeBatchGetRequest {
+
+    @Schema(description = "Ids, at most app.employees.batch.max-size", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    public EmployeeBatchGetRequest() {}
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
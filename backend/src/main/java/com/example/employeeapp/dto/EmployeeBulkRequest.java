@@ -0,0 +1,63 @@
+package com.example.employeeapp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Employees to update or delete in one transaction")
+public class EmployeeBulkRequest {
+
+    @Schema(description = "Target rows, at most app.employees.batch.max-size")
+    private List<Item> items;
+
+    @Schema(description = "Bulk update only: attributes to set on every target (firstName, lastName, email, position)",
+            example = "{\"position\": \"Architekt\"}")
+    private Map<String, Object> set;
+
+    public EmployeeBulkRequest() {}
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+
+    public Map<String, Object> getSet() {
+        return set;
+    }
+
+    public void setSet(Map<String, Object> set) {
+        this.set = set;
+    }
+
+    @Schema(description = "One target row")
+    public static class Item {
+
+        @Schema(description = "Employee id", example = "1")
+        private Long id;
+
+        @Schema(description = "Version the client read; when given, a row at another version is reported as 409", example = "0")
+        private Long version;
+
+        public Item() {}
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Long getVersion() {
+            return version;
+        }
+
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.employeeapp.dto;
+
+import com.example.employeeapp.model.Employee;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Per-id outcome of a batch read or bulk write, in request order")
+public class EmployeeBulkResult {
+
+    @Schema(description = "One entry per distinct requested id")
+    private List<Item> results = new ArrayList<>();
+
+    @Schema(description = "Number of ids with a 2xx status", example = "98")
+    private long succeeded;
+
+    @Schema(description = "Number of ids with a 4xx status", example = "2")
+    private long failed;
+
+    public EmployeeBulkResult() {}
+
+    public void add(Item item) {
+        results.add(item);
+        if (item.getStatus() < 400) succeeded++;
+        else failed++;
+    }
+
+    public List<Item> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Item> results) {
+        this.results = results;
+    }
+
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(long succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    @Schema(description = "Outcome for one id")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+
+        @Schema(description = "Employee id", example = "1")
+        private long id;
+
+        @Schema(description = "HTTP status this id would have had on its own: 200, 204, 404 or 409", example = "200")
+        private int status;
+
+        @Schema(description = "The employee (batch read) or its new state (bulk update)")
+        private Employee employee;
+
+        public Item() {}
+
+        public Item(long id, int status, Employee employee) {
+            this.id = id;
+            this.status = status;
+            this.employee = employee;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public void setStatus(int status) {
+            this.status = status;
+        }
+
+        public Employee getEmployee() {
+            return employee;
+        }
+
+        public void setEmployee(Employee employee) {
+            this.employee = employee;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.employeeapp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk employee import with per-row errors")
+public class EmployeeImportReport {
+
+    @Schema(description = "Number of data rows read", example = "1000")
+    private long received;
+
+    @Schema(description = "Number of rows written to the database", example = "998")
+    private long imported;
+
+    @Schema(description = "Number of rows rejected", example = "2")
+    private long failed;
+
+    @Schema(description = "Rejected rows, capped at app.employees.import.max-reported-errors")
+    private List<RowError> errors = new ArrayList<>();
+
+    @Schema(description = "True if more rows failed than are listed in errors")
+    private boolean errorsTruncated;
+
+    // Constructors
+    public EmployeeImportReport() {}
+
+    // Getters and Setters
+    public long getReceived() {
+        return received;
+    }
+
+    public void setReceived(long received) {
+        this.received = received;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    @Schema(description = "Validation or database error for one input line")
+    public static class RowError {
+
+        @Schema(description = "1-based line number in the uploaded file", example = "42")
+        private long line;
+
+        @Schema(description = "Error messages for the row")
+        private List<String> messages;
+
+        public RowError() {}
+
+        public RowError(long line, List<String> messages) {
+            this.line = line;
+            this.messages = messages;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public void setLine(long line) {
+            this.line = line;
+        }
+
+        public List<String> getMessages() {
+            return messages;
+        }
+
+        public void setMessages(List<String> messages) {
+            this.messages = messages;
+        }
+    }
+}
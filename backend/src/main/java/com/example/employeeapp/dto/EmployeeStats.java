@@ -0,0 +1,65 @@
+package com.example.employeeapp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Schema(description = "Employee counts by position and email domain")
+public class EmployeeStats {
+
+    @Schema(description = "Total number of employees", example = "10")
+    private long total;
+
+    @Schema(description = "Employee count per position")
+    private Map<String, Long> byPosition;
+
+    @Schema(description = "Employee count per email domain")
+    private Map<String, Long> byEmailDomain;
+
+    @Schema(description = "When the counters were last reconciled against the database")
+    private Instant reconciledAt;
+
+    // Constructors
+    public EmployeeStats() {}
+
+    public EmployeeStats(long total, Map<String, Long> byPosition, Map<String, Long> byEmailDomain, Instant reconciledAt) {
+        this.total = total;
+        this.byPosition = byPosition;
+        this.byEmailDomain = byEmailDomain;
+        this.reconciledAt = reconciledAt;
+    }
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<String, Long> getByPosition() {
+        return byPosition;
+    }
+
+    public void setByPosition(Map<String, Long> byPosition) {
+        this.byPosition = byPosition;
+    }
+
+    public Map<String, Long> getByEmailDomain() {
+        return byEmailDomain;
+    }
+
+    public void setByEmailDomain(Map<String, Long> byEmailDomain) {
+        this.byEmailDomain = byEmailDomain;
+    }
+
+    public Instant getReconciledAt() {
+        return reconciledAt;
+    }
+
+    public void setReconciledAt(Instant reconciledAt) {
+        this.reconciledAt = reconciledAt;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.employeeapp.exception;
+
+public class InvalidBulkRequestException extends RuntimeException {
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.employeeapp.exception;
+
+public class InvalidExportFormatException extends RuntimeException {
+    public InvalidExportFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.employeeapp.exception;
+
+public class TooManySubscribersException extends RuntimeException {
+    public TooManySubscribersException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.employeeapp.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+// Rows are written in batches by LoginAuditService through JDBC; the entity only maps the table for schema validation
+@Entity
+@Table(name = "login_audit", indexes = @Index(name = "idx_login_audit_username_time", columnList = "username, occurred_at"))
+public class LoginAudit {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private boolean success;
+
+    @Column(name = "remote_addr", length = 64)
+    private String remoteAddr;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public String getRemoteAddr() { return remoteAddr; }
+    public void setRemoteAddr(String remoteAddr) { this.remoteAddr = remoteAddr; }
+
+    public Instant getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(Instant occurredAt) { this.occurredAt = occurredAt; }
+}
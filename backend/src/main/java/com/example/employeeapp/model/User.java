@@ -1,9 +1,15 @@
 package com.example.employeeapp.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.Instant;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 public class User {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -20,6 +26,14 @@ public class User {
     @Column(nullable=false)
     private String role; // ROLE_ADMIN or ROLE_USER
 
+    @Version
+    @Column(nullable=false)
+    private Long version;
+
+    // Written only by LoginAuditService; read-only here so entity updates never overwrite it
+    @Column(name="last_login_at", insertable=false, updatable=false)
+    private Instant lastLoginAt;
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
@@ -34,4 +48,10 @@ public class User {
 
     public String getRole() { return role; }
     public void setRole(String role) { this.role = role; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public Instant getLastLoginAt() { return lastLoginAt; }
+    public void setLastLoginAt(Instant lastLoginAt) { this.lastLoginAt = lastLoginAt; }
 }
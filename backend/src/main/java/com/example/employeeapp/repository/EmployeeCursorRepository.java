@@ -0,0 +1,51 @@
+package com.example.employeeapp.repository;
+
+import com.example.employeeapp.model.Employee;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC access to the employees table for reads that must not materialize
+ * the whole result set. Rows are fetched through a server-side cursor in chunks
+ * of {@code app.employees.stream.fetch-size} and handed out one at a time.
+ */
+@Repository
+public class EmployeeCursorRepository {
+
+    private static final String SELECT_ALL =
+            "SELECT id, first_name, last_name, email, position, version FROM employees ORDER BY id";
+
+    private final JdbcTemplate jdbc;
+
+    public EmployeeCursorRepository(DataSource dataSource,
+                                    @Value("${app.employees.stream.fetch-size:500}") int fetchSize) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(fetchSize);
+    }
+
+    // PostgreSQL only honours the fetch size inside a transaction (autocommit off)
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Employee> action) {
+        jdbc.query(SELECT_ALL, rs -> {
+            action.accept(mapRow(rs));
+        });
+    }
+
+    private static Employee mapRow(ResultSet rs) throws SQLException {
+        Employee e = new Employee();
+        e.setId(rs.getLong("id"));
+        e.setFirstName(rs.getString("first_name"));
+        e.setLastName(rs.getString("last_name"));
+        e.setEmail(rs.getString("email"));
+        e.setPosition(rs.getString("position"));
+        e.setVersion(rs.getLong("version"));
+        return e;
+    }
+}
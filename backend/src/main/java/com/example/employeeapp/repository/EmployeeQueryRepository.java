@@ -0,0 +1,90 @@
+package com.example.employeeapp.repository;
+
+import com.example.employeeapp.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Employee reads that select only the requested columns. Rows come back as
+ * field name to value maps rather than entities, so nothing is hydrated, tracked
+ * for dirty checking or put into the second-level cache.
+ */
+@Repository
+public class EmployeeQueryRepository {
+
+    /** Selectable fields in output order; API names are the entity attribute names. */
+    public static final List<String> FIELDS = List.of("id", "firstName", "lastName", "email", "position", "version");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Read-only so it is routed to a replica when replicas are configured
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> find(Specification<Employee> spec, List<Sort.Order> order,
+                                          Collection<String> fields, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+
+        List<String> selected = new ArrayList<>(fields.size());
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : FIELDS) {
+            if (!fields.contains(field)) continue;
+            selected.add(field);
+            selections.add(root.get(field).alias(field));
+        }
+        query.multiselect(selections);
+
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (where != null) query.where(where);
+        List<Order> orderBy = new ArrayList<>(order.size());
+        for (Sort.Order o : order) {
+            orderBy.add(o.isAscending() ? cb.asc(root.get(o.getProperty())) : cb.desc(root.get(o.getProperty())));
+        }
+        query.orderBy(orderBy);
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(limit)
+                .getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : selected) row.put(field, tuple.get(field));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Employees by id in the given order, null where an id does not exist. Rows in the
+     * second-level cache are taken from there; the rest are loaded with one IN query per
+     * {@code batchSize} ids.
+     */
+    @Transactional(readOnly = true)
+    public List<Employee> findAllById(List<Long> ids, int batchSize) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Employee.class)
+                .withBatchSize(batchSize)
+                .multiLoad(ids);
+    }
+}
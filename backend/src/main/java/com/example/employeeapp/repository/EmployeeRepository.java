@@ -1,6 +1,16 @@
 package com.example.employeeapp.repository;
 
 import com.example.employeeapp.model.Employee;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {}
+import java.util.Optional;
+
+// Filtered and projected list reads go through EmployeeQueryRepository
+public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+
+    /** The row as the database has it now; unlike findById never answered from the second-level cache. */
+    @QueryHints(@QueryHint(name = "jakarta.persistence.cache.retrieveMode", value = "BYPASS"))
+    Optional<Employee> findCurrentById(Long id);
+}
@@ -0,0 +1,81 @@
+package com.example.employeeapp.repository;
+
+import com.example.employeeapp.model.Employee;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Filters for the employee list. Text filters compare {@code lower(column)} with a LIKE
+ * pattern, which the PostgreSQL trigram indexes (V3 migration) serve.
+ */
+public final class EmployeeSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private EmployeeSpecifications() {}
+
+    // Exact match, served by the btree index on position
+    public static Specification<Employee> hasPosition(String position) {
+        return (root, query, cb) -> cb.equal(root.get("position"), position);
+    }
+
+    // Case-insensitive match of everything after the '@'
+    public static Specification<Employee> hasEmailDomain(String domain) {
+        String pattern = "%@" + escape(domain.toLowerCase(Locale.ROOT));
+        return (root, query, cb) -> cb.like(cb.lower(root.get("email")), pattern, ESCAPE);
+    }
+
+    // Case-insensitive prefix of the first or the last name
+    public static Specification<Employee> nameStartsWith(String prefix) {
+        String pattern = escape(prefix.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("firstName")), pattern, ESCAPE),
+                cb.like(cb.lower(root.get("lastName")), pattern, ESCAPE));
+    }
+
+    /**
+     * Rows after the given sort-key values in the given order, i.e. the next keyset page.
+     * For (a asc, b desc, id asc) this is {@code a > ? OR (a = ? AND b < ?) OR (a = ? AND b = ? AND id > ?)}.
+     * The order must end in a unique attribute so the boundary row itself is excluded.
+     */
+    public static Specification<Employee> after(List<Sort.Order> order, List<String> lastValues) {
+        if (order.size() != lastValues.size()) {
+            throw new IllegalArgumentException("Expected " + order.size() + " cursor values, got " + lastValues.size());
+        }
+        // Converted up front so a malformed value fails here rather than during query execution
+        List<Comparable<?>> values = new ArrayList<>(order.size());
+        for (int i = 0; i < order.size(); i++) {
+            values.add(typed(order.get(i).getProperty(), lastValues.get(i)));
+        }
+        return (root, query, cb) -> {
+            List<Predicate> alternatives = new ArrayList<>(order.size());
+            List<Predicate> equalSoFar = new ArrayList<>(order.size());
+            for (int i = 0; i < order.size(); i++) {
+                Sort.Order o = order.get(i);
+                Path<Comparable<Object>> path = root.get(o.getProperty());
+                @SuppressWarnings("unchecked")
+                Comparable<Object> value = (Comparable<Object>) values.get(i);
+                List<Predicate> terms = new ArrayList<>(equalSoFar);
+                terms.add(o.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value));
+                alternatives.add(cb.and(terms.toArray(Predicate[]::new)));
+                equalSoFar.add(cb.equal(path, value));
+            }
+            return cb.or(alternatives.toArray(Predicate[]::new));
+        };
+    }
+
+    // id and version are numeric, every other sortable attribute is a string
+    private static Comparable<?> typed(String property, String value) {
+        return "id".equals(property) || "version".equals(property) ? Long.valueOf(value) : value;
+    }
+
+    private static String escape(String literal) {
+        return literal.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
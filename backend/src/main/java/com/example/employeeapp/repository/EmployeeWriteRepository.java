@@ -0,0 +1,180 @@
+package com.example.employeeapp.repository;
+
+import com.example.employeeapp.model.Employee;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Employee updates and deletes as one SQL statement each, without loading the entity first.
+ * With an expected version the statement only matches that version, so a concurrent change
+ * makes it match nothing instead of being overwritten. The statements bypass Hibernate, so
+ * every write runs in a transaction (the caller's, if any) and registers the changed rows with
+ * {@link SqlWriteCacheSync}, which keeps the second-level and query caches in step at commit.
+ *
+ * <p>The bulk variants run one statement per {@code inChunkSize} ids.
+ */
+@Repository
+public class EmployeeWriteRepository {
+
+    /** Updatable entity attributes and their columns. */
+    public static final Map<String, String> COLUMNS = new LinkedHashMap<>();
+    static {
+        COLUMNS.put("firstName", "first_name");
+        COLUMNS.put("lastName", "last_name");
+        COLUMNS.put("email", "email");
+        COLUMNS.put("position", "position");
+    }
+
+    /** The row before and after an update. */
+    public record Change(Employee before, Employee after) {}
+
+    /** A row addressed by a bulk write: its id and optionally the version it was read at. */
+    public record Target(long id, Long version) {}
+
+    private static final RowMapper<Employee> ROW = (rs, n) -> {
+        Employee e = new Employee();
+        e.setId(rs.getLong("id"));
+        e.setFirstName(rs.getString("first_name"));
+        e.setLastName(rs.getString("last_name"));
+        e.setEmail(rs.getString("email"));
+        e.setPosition(rs.getString("position"));
+        e.setVersion(rs.getLong("version"));
+        return e;
+    };
+
+    private final JdbcTemplate jdbc;
+    private final SqlWriteCacheSync cacheSync;
+    private final OldRowStatements statements;
+    private final int inChunkSize;
+
+    public EmployeeWriteRepository(JdbcTemplate jdbc, SqlWriteCacheSync cacheSync,
+                                   @Value("${app.employees.batch.in-chunk-size:500}") int inChunkSize) {
+        this.jdbc = jdbc;
+        this.cacheSync = cacheSync;
+        this.statements = new OldRowStatements(jdbc, "employees",
+                List.of("id", "first_name", "last_name", "email", "position", "version"));
+        this.inChunkSize = inChunkSize;
+    }
+
+    /**
+     * Sets the given attributes (keys of {@link #COLUMNS}) and increments the version. Empty when
+     * no row has this id, or, with {@code expectedVersion}, not at that version.
+     */
+    @Transactional
+    public Optional<Change> update(long id, Long expectedVersion, Map<String, String> values) {
+        List<Change> changes = updateChunk(List.of(new Target(id, expectedVersion)), expectedVersion != null, values);
+        if (changes.isEmpty()) return Optional.empty();
+        return Optional.of(changes.get(0));
+    }
+
+    /** The deleted row; empty when no row has this id, or, with {@code expectedVersion}, not at that version. */
+    @Transactional
+    public Optional<Employee> delete(long id, Long expectedVersion) {
+        List<Employee> removed = deleteChunk(List.of(new Target(id, expectedVersion)), expectedVersion != null);
+        if (removed.isEmpty()) return Optional.empty();
+        return Optional.of(removed.get(0));
+    }
+
+    /** Sets the same attributes on every target; the result has a change per matched row. */
+    @Transactional
+    public List<Change> updateAll(List<Target> targets, Map<String, String> values) {
+        List<Change> changes = new ArrayList<>(targets.size());
+        for (List<Target> chunk : chunks(targets)) changes.addAll(updateChunk(chunk, versioned(chunk), values));
+        return changes;
+    }
+
+    /** Deletes every target; the result has the deleted rows. */
+    @Transactional
+    public List<Employee> deleteAll(List<Target> targets) {
+        List<Employee> removed = new ArrayList<>(targets.size());
+        for (List<Target> chunk : chunks(targets)) removed.addAll(deleteChunk(chunk, versioned(chunk)));
+        return removed;
+    }
+
+    /** Which of the ids exist, for telling version conflicts from missing rows after a write. */
+    public Set<Long> existingIds(Collection<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        List<Long> all = new ArrayList<>(ids);
+        for (int from = 0; from < all.size(); from += inChunkSize) {
+            List<Long> chunk = all.subList(from, Math.min(all.size(), from + inChunkSize));
+            existing.addAll(jdbc.queryForList(statements.existing(chunk.size()), Long.class, chunk.toArray()));
+        }
+        return existing;
+    }
+
+    private List<Change> updateChunk(List<Target> chunk, boolean checkVersion, Map<String, String> values) {
+        List<String> setColumns = new ArrayList<>(values.size());
+        List<Object> args = new ArrayList<>(values.size() + 2 * chunk.size());
+        values.forEach((attribute, value) -> {
+            setColumns.add(COLUMNS.get(attribute));
+            args.add(value);
+        });
+        addTargets(args, chunk, checkVersion);
+
+        List<Employee> old = jdbc.query(statements.update(setColumns, chunk.size(), checkVersion), ROW, args.toArray());
+        cacheSync.written(Employee.class, old.stream().map(Employee::getId).toList());
+        List<Change> changes = new ArrayList<>(old.size());
+        for (Employee before : old) {
+            Employee after = new Employee();
+            after.setId(before.getId());
+            after.setFirstName(values.getOrDefault("firstName", before.getFirstName()));
+            after.setLastName(values.getOrDefault("lastName", before.getLastName()));
+            after.setEmail(values.getOrDefault("email", before.getEmail()));
+            after.setPosition(values.getOrDefault("position", before.getPosition()));
+            after.setVersion(before.getVersion() + 1);
+            changes.add(new Change(before, after));
+        }
+        return changes;
+    }
+
+    private List<Employee> deleteChunk(List<Target> chunk, boolean checkVersion) {
+        List<Object> args = new ArrayList<>(2 * chunk.size());
+        addTargets(args, chunk, checkVersion);
+        List<Employee> removed = jdbc.query(statements.delete(chunk.size(), checkVersion), ROW, args.toArray());
+        cacheSync.written(Employee.class, removed.stream().map(Employee::getId).toList());
+        return removed;
+    }
+
+    private static void addTargets(List<Object> args, List<Target> targets, boolean checkVersion) {
+        for (Target target : targets) {
+            args.add(target.id());
+            if (checkVersion) args.add(target.version());
+        }
+    }
+
+    // Runs of at most inChunkSize targets in ascending id order, each either all versioned or all
+    // unversioned. Every transaction then locks rows in the same order whatever order the request
+    // listed them in, so two concurrent bulk writes over overlapping ids cannot deadlock.
+    private List<List<Target>> chunks(List<Target> targets) {
+        List<Target> sorted = new ArrayList<>(targets);
+        sorted.sort(Comparator.comparingLong(Target::id));
+        List<List<Target>> chunks = new ArrayList<>();
+        List<Target> chunk = new ArrayList<>();
+        for (Target target : sorted) {
+            if (chunk.size() == inChunkSize || (!chunk.isEmpty() && versioned(chunk) != (target.version() != null))) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+            }
+            chunk.add(target);
+        }
+        if (!chunk.isEmpty()) chunks.add(chunk);
+        return chunks;
+    }
+
+    private static boolean versioned(List<Target> chunk) {
+        return chunk.get(0).version() != null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.employeeapp.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+/**
+ * UPDATE and DELETE by id (one row or an IN list) that return the rows as they were before
+ * the statement, so a write costs one round trip and the in-memory views (search index, stats,
+ * change feed) still learn what changed. Both statements increment or check {@code version}
+ * like Hibernate's optimistic locking would.
+ *
+ * <p>The SQL is dialect specific: H2 reads the old row through {@code SELECT ... FROM OLD TABLE
+ * (...)}; PostgreSQL locks and reads it in a {@code SELECT ... FOR UPDATE} CTE that the
+ * {@code UPDATE ... FROM ... RETURNING} joins. A plain self-join would not do on PostgreSQL:
+ * under READ COMMITTED the joined copy comes from the statement snapshot, so after waiting for
+ * a concurrent writer it would return the row as it was before that writer, not before this
+ * statement. FOR UPDATE re-reads the latest committed version once the lock is granted (and
+ * re-checks id and version against it). These are the two databases the migrations support.
+ */
+final class OldRowStatements {
+
+    private final JdbcTemplate jdbc;
+    private final String table;
+    private final String columns;
+    private volatile Boolean postgres;
+
+    OldRowStatements(JdbcTemplate jdbc, String table, List<String> columns) {
+        this.jdbc = jdbc;
+        this.table = table;
+        this.columns = String.join(", ", columns);
+    }
+
+    /**
+     * {@code UPDATE table SET c = ?, ..., version = version + 1} for {@code rows} ids. Parameters
+     * are the values, then the ids, each followed by its expected version when {@code checkVersion}.
+     */
+    String update(List<String> setColumns, int rows, boolean checkVersion) {
+        if (isPostgres()) {
+            // The values come first in their own CTE, so both dialects take the parameters in
+            // the same order
+            StringBuilder values = new StringBuilder();
+            StringBuilder set = new StringBuilder();
+            for (String column : setColumns) {
+                values.append(values.length() == 0 ? "" : ", ").append("? AS ").append(column);
+                set.append(column).append(" = v.").append(column).append(", ");
+            }
+            return "WITH v AS (SELECT " + values + "),"
+                    + " old AS (SELECT " + columns + " FROM " + table + " WHERE " + match("", rows, checkVersion) + " ORDER BY id FOR UPDATE)"
+                    + " UPDATE " + table + " t SET " + set + "version = t.version + 1 FROM v, old"
+                    + " WHERE t.id = old.id RETURNING " + qualified("old");
+        }
+        StringBuilder set = new StringBuilder();
+        for (String column : setColumns) set.append(column).append(" = ?, ");
+        return "SELECT " + columns + " FROM OLD TABLE (UPDATE " + table + " SET " + set + "version = version + 1"
+                + " WHERE " + match("", rows, checkVersion) + ")";
+    }
+
+    /** {@code DELETE} of {@code rows} ids; parameters as for {@link #update}. */
+    String delete(int rows, boolean checkVersion) {
+        String delete = "DELETE FROM " + table + " WHERE " + match("", rows, checkVersion);
+        return isPostgres()
+                ? delete + " RETURNING " + columns
+                : "SELECT " + columns + " FROM OLD TABLE (" + delete + ")";
+    }
+
+    /** Ids among {@code rows} parameters that exist. */
+    String existing(int rows) {
+        return "SELECT id FROM " + table + " WHERE " + match("", rows, false);
+    }
+
+    // id = ? [AND version = ?] for one row; id IN (...) or (id, version) IN ((?, ?), ...) for more
+    private static String match(String prefix, int rows, boolean checkVersion) {
+        if (rows == 1) {
+            return prefix + "id = ?" + (checkVersion ? " AND " + prefix + "version = ?" : "");
+        }
+        String placeholder = checkVersion ? "(?, ?)" : "?";
+        StringBuilder in = new StringBuilder(checkVersion ? "(" + prefix + "id, " + prefix + "version) IN (" : prefix + "id IN (");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) in.append(", ");
+            in.append(placeholder);
+        }
+        return in.append(')').toString();
+    }
+
+    private String qualified(String alias) {
+        return alias + "." + columns.replace(", ", ", " + alias + ".");
+    }
+
+    // Resolved on first use rather than at startup, so building the bean needs no connection
+    private boolean isPostgres() {
+        Boolean pg = postgres;
+        if (pg == null) {
+            String product;
+            try {
+                product = JdbcUtils.extractDatabaseMetaData(jdbc.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+            } catch (MetaDataAccessException ex) {
+                throw new IllegalStateException("Cannot determine the database product", ex);
+            }
+            if ("PostgreSQL".equals(product)) {
+                pg = Boolean.TRUE;
+            } else if ("H2".equals(product)) {
+                pg = Boolean.FALSE;
+            } else {
+                throw new IllegalStateException("Single-statement writes are not implemented for " + product);
+            }
+            postgres = pg;
+        }
+        return pg;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.employeeapp.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps Hibernate's second-level and query caches consistent with rows written through
+ * JdbcTemplate, which Hibernate never sees. {@link #written} must be called inside the writing
+ * transaction, before it commits, and does what Hibernate does for its own updates: the rows'
+ * cache entries are soft-locked, so a concurrent load that read the old row cannot put it back,
+ * and the table's query space is marked as changing, so no query result is cached meanwhile.
+ * When the transaction completes the locks are released and the query space is invalidated,
+ * which also drops cached queries such as {@code UserRepository.findByUsername}.
+ *
+ * <p>Only this instance's caches are affected; other instances serve their entries until the
+ * region TTL in application.conf.
+ */
+@Component
+public class SqlWriteCacheSync {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SqlWriteCacheSync(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /** Registers rows of {@code entityClass} changed or deleted by SQL in the current transaction. */
+    public void written(Class<?> entityClass, Collection<?> ids) {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager == null) {
+            throw new IllegalStateException("SQL writes to " + entityClass.getSimpleName() + " need a transaction");
+        }
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        SessionFactoryImplementor factory = session.getFactory();
+        EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor(entityClass);
+        String[] spaces = Arrays.stream(persister.getQuerySpaces()).map(String.class::cast).toArray(String[]::new);
+        TimestampsCache timestamps = factory.getCache().getTimestampsCache();
+        timestamps.preInvalidate(spaces, session);
+
+        EntityDataAccess access = persister.canWriteToCache() ? persister.getCacheAccessStrategy() : null;
+        List<Object> keys = new ArrayList<>(ids.size());
+        List<SoftLock> locks = new ArrayList<>(ids.size());
+        if (access != null) {
+            for (Object id : ids) {
+                Object key = access.generateCacheKey(id, persister, factory, session.getTenantIdentifier());
+                keys.add(key);
+                locks.add(access.lockItem(session, key, null));
+            }
+        }
+        session.getActionQueue().registerProcess((success, completed) -> {
+            for (int i = 0; i < keys.size(); i++) access.unlockItem(completed, keys.get(i), locks.get(i));
+            timestamps.invalidate(spaces, completed);
+        });
+    }
+}
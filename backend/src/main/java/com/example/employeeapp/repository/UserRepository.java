@@ -1,9 +1,14 @@
 package com.example.employeeapp.repository;
 
 import com.example.employeeapp.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Query cache holds the id; the row itself comes from the User entity region
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
 }
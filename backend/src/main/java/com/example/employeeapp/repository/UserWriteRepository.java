@@ -0,0 +1,76 @@
+package com.example.employeeapp.repository;
+
+import com.example.employeeapp.model.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * User email and role updates as one SQL statement, optionally checked against the version;
+ * see {@link EmployeeWriteRepository}. Password hashes and last-login times are not touched.
+ */
+@Repository
+public class UserWriteRepository {
+
+    /** Updatable entity attributes and their columns. */
+    public static final Map<String, String> COLUMNS = Map.of("email", "email", "role", "role");
+
+    /** The row before and after an update, without the password hash. */
+    public record Change(User before, User after) {}
+
+    private static final RowMapper<User> ROW = (rs, n) -> {
+        User u = new User();
+        u.setId(rs.getLong("id"));
+        u.setUsername(rs.getString("username"));
+        u.setEmail(rs.getString("email"));
+        u.setRole(rs.getString("role"));
+        u.setVersion(rs.getLong("version"));
+        return u;
+    };
+
+    private final JdbcTemplate jdbc;
+    private final SqlWriteCacheSync cacheSync;
+    private final OldRowStatements statements;
+
+    public UserWriteRepository(JdbcTemplate jdbc, SqlWriteCacheSync cacheSync) {
+        this.jdbc = jdbc;
+        this.cacheSync = cacheSync;
+        this.statements = new OldRowStatements(jdbc, "users", List.of("id", "username", "email", "role", "version"));
+    }
+
+    /**
+     * Sets the given attributes (keys of {@link #COLUMNS}; email may be null) and increments the
+     * version. Empty when no row has this id, or, with {@code expectedVersion}, not at that version.
+     */
+    @Transactional
+    public Optional<Change> update(long id, Long expectedVersion, Map<String, String> values) {
+        List<String> setColumns = new ArrayList<>(values.size());
+        List<Object> args = new ArrayList<>(values.size() + 2);
+        values.forEach((attribute, value) -> {
+            setColumns.add(COLUMNS.get(attribute));
+            args.add(value);
+        });
+        args.add(id);
+        if (expectedVersion != null) args.add(expectedVersion);
+
+        List<User> old = jdbc.query(statements.update(setColumns, 1, expectedVersion != null), ROW, args.toArray());
+        if (old.isEmpty()) return Optional.empty();
+        // Also invalidates cached queries such as findByUsername, so a role change applies at once
+        cacheSync.written(User.class, List.of(id));
+
+        User before = old.get(0);
+        User after = new User();
+        after.setId(before.getId());
+        after.setUsername(before.getUsername());
+        after.setEmail(values.containsKey("email") ? values.get("email") : before.getEmail());
+        after.setRole(values.getOrDefault("role", before.getRole()));
+        after.setVersion(before.getVersion() + 1);
+        return Optional.of(new Change(before, after));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.employeeapp.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * BCrypt at a configured cost. A stored hash counts as outdated only when its cost is below the
+ * current one, so raising the cost rehashes users on their next login while instances that
+ * briefly disagree during a rollout never rehash a password back down. {@link #calibrate}
+ * measures this hardware and is meant for choosing the value to pin, not for every startup:
+ * its timing is noisy and would give each instance a different cost.
+ */
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final int PROBE_STRENGTH = 8;
+    private static final int PROBE_ROUNDS = 3;
+
+    private final int strength;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost > 0 && cost < strength;
+    }
+
+    // Cost factor of a $2a$NN$... hash, or -1 if the value is not a BCrypt hash
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    /** Cost between min and max whose hash time is closest to target; each step doubles the time. */
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        probe.encode("warm-up");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double doublings = Math.log((double) target.toNanos() / Math.max(1, best)) / Math.log(2);
+        int strength = PROBE_STRENGTH + (int) Math.round(doublings);
+        return Math.max(minStrength, Math.min(maxStrength, strength));
+    }
+}
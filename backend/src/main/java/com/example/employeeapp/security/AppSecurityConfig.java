@@ -1,6 +1,11 @@
 package com.example.employeeapp.security;
 
+import com.example.employeeapp.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -9,23 +14,29 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 public class AppSecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(AppSecurityConfig.class);
+
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private RateLimitFilter rateLimitFilter;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   AuthenticationProvider authenticationProvider) throws Exception {
         http.csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
                 // Allow Swagger UI and API docs without authentication
@@ -39,32 +50,56 @@ public class AppSecurityConfig {
                     "/webjars/**",
                     "/favicon.ico"
                 ).permitAll()
+                // Health and the Prometheus scrape endpoint; keep them off public ingress
+                .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/prometheus").permitAll()
                 // Allow auth endpoints without authentication
                 .requestMatchers("/api/auth/**").permitAll()
                 // Allow public user endpoints
                 .requestMatchers("GET", "/api/users").permitAll()
+                // Full dumps are not public even though single pages are; must precede the wildcard below
+                .requestMatchers("GET", "/api/employees/export", "/api/employees/stream").authenticated()
                 // Allow public employee endpoints (read-only)
                 .requestMatchers("GET", "/api/employees/**").permitAll()
+                // Change feed carries the same data as the public lists
+                .requestMatchers("GET", "/api/changes").permitAll()
                 // Everything else requires authentication
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-            .authenticationProvider(authenticationProvider())
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .authenticationProvider(authenticationProvider)
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // After the JWT filter so authenticated callers are limited per user rather than per IP
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
         return http.build();
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // Rehashes the password after a successful login when its cost differs from the current one
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
+    // The only password encoder in the app. BCrypt runs on its own fixed pool (0 = cores) at the
+    // configured strength; strength 0 calibrates to target-verify-time instead.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${app.security.bcrypt.strength:10}") int strength,
+                                           @Value("${app.security.bcrypt.target-verify-time:100ms}") Duration targetVerifyTime,
+                                           @Value("${app.security.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${app.security.bcrypt.max-strength:14}") int maxStrength,
+                                           @Value("${app.security.bcrypt.pool-size:0}") int poolSize,
+                                           @Value("${app.security.bcrypt.queue-capacity:1000}") int queueCapacity,
+                                           @Value("${app.security.bcrypt.max-concurrent-verifications:0}") int maxConcurrentVerifications) {
+        int cost = strength > 0 ? strength : AdaptiveBCryptPasswordEncoder.calibrate(targetVerifyTime, minStrength, maxStrength);
+        log.info("BCrypt cost {} ({})", cost, strength > 0 ? "configured" : "calibrated to " + targetVerifyTime);
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        int maxVerifications = maxConcurrentVerifications > 0 ? maxConcurrentVerifications : threads * 2;
+        return new BoundedPasswordEncoder(new AdaptiveBCryptPasswordEncoder(cost), threads, queueCapacity,
+                maxVerifications, meterRegistry);
     }
 
     @Bean
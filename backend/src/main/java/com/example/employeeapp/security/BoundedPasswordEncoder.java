@@ -0,0 +1,113 @@
+package com.example.employeeapp.security;
+
+import com.example.employeeapp.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the delegate's hashing on a dedicated, bounded pool. BCrypt is pure CPU; running it on
+ * request threads lets a login burst occupy every request thread (or every carrier thread when
+ * requests run on virtual threads) and starve cheap reads. Callers block until their hash is
+ * done, which on a virtual thread releases the carrier.
+ *
+ * <p>At most {@code maxConcurrentVerifications} password checks may be queued or running.
+ * Beyond that {@link #matches} fails immediately with {@link PasswordHashingBusyException}
+ * (429), so a credential-stuffing burst is shed cheaply instead of piling up behind BCrypt.
+ *
+ * <p>Hashing time is published as {@code auth.password} per operation; queueing and pool
+ * utilisation as the {@code executor.*} metrics of the {@code bcrypt} pool.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService pool;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Semaphore verifications;
+    private final Counter throttled;
+    private final Counter queueFull;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  int maxConcurrentVerifications, MeterRegistry meterRegistry) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("bcrypt-");
+        threadFactory.setDaemon(true);
+        this.delegate = delegate;
+        this.pool = ExecutorServiceMetrics.monitor(meterRegistry,
+                new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), threadFactory),
+                "bcrypt");
+        this.encodeTimer = Timer.builder("auth.password").tag("operation", "encode")
+                .description("Password hashing time").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password").tag("operation", "matches")
+                .description("Password hashing time").register(meterRegistry);
+        this.verifications = new Semaphore(maxConcurrentVerifications);
+        this.throttled = Counter.builder("auth.password.rejected").tag("reason", "throttled")
+                .description("Password operations refused for lack of hashing capacity").register(meterRegistry);
+        this.queueFull = Counter.builder("auth.password.rejected").tag("reason", "queue_full")
+                .description("Password operations refused for lack of hashing capacity").register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (!verifications.tryAcquire()) {
+            throttled.increment();
+            throw new PasswordHashingBusyException("Too many concurrent logins, retry shortly");
+        }
+        try {
+            return call(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+        } finally {
+            verifications.release();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = pool.submit(task);
+        } catch (RejectedExecutionException ex) {
+            queueFull.increment();
+            throw new PasswordHashingBusyException("Password hashing capacity exceeded, retry shortly");
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Interrupted while hashing password", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new AuthenticationServiceException("Password hashing failed", ex.getCause());
+        }
+    }
+}
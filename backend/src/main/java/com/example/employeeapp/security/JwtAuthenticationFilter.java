@@ -1,10 +1,11 @@
 package com.example.employeeapp.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,11 +19,22 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    @Autowired
-    private JwtTokenUtil jwtTokenUtil;
+    private final JwtTokenUtil jwtTokenUtil;
+    private final UserDetailsService userDetailsService;
+    private final Timer verifyTimer;
+    private final Timer userLoadTimer;
 
-    @Autowired
-    private UserDetailsService userDetailsService;
+    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil,
+                                   UserDetailsService userDetailsService,
+                                   MeterRegistry meterRegistry) {
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.userDetailsService = userDetailsService;
+        // Signature parsing on cache misses is timed as phase=parse inside JwtTokenUtil
+        this.verifyTimer = Timer.builder("auth.jwt").tag("phase", "verify")
+                .description("JWT filter phases").register(meterRegistry);
+        this.userLoadTimer = Timer.builder("auth.jwt").tag("phase", "user_load")
+                .description("JWT filter phases").register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -32,7 +44,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String token;
-        String username = null;
+        final JwtTokenUtil.VerifiedToken verified;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
@@ -41,18 +53,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         token = authHeader.substring(7);
         // Protect against expired/malformed tokens throwing and breaking non-auth endpoints.
+        // The token is parsed and verified once here; the result is reused for validation below.
+        Timer.Sample verifySample = Timer.start();
         try {
-            username = jwtTokenUtil.extractUsername(token);
+            verified = jwtTokenUtil.verify(token);
         } catch (Exception ex) {
             // Token is invalid or expired — don't authenticate the request, but allow it to proceed
             // so public endpoints (like /api/auth/register) continue to work.
             filterChain.doFilter(request, response);
             return;
+        } finally {
+            verifySample.stop(verifyTimer);
         }
 
+        String username = verified.username();
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtTokenUtil.validateToken(token, userDetails)) {
+            UserDetails userDetails = userLoadTimer.record(() -> userDetailsService.loadUserByUsername(username));
+            if (jwtTokenUtil.validateToken(verified, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
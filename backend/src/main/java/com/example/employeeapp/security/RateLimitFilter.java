@@ -0,0 +1,112 @@
+package com.example.employeeapp.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits requests per endpoint group. Runs after {@link JwtAuthenticationFilter}, so
+ * authenticated requests are limited per username and anonymous ones per client IP; login and
+ * registration are always limited per IP. Rejected requests get 429 with {@code Retry-After}.
+ *
+ * <p>The client IP is {@link HttpServletRequest#getRemoteAddr()}; behind a proxy enable
+ * {@code server.forward-headers-strategy} instead of trusting forwarded headers here.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    enum Group { AUTH, READ, WRITE }
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Map<Group, TokenBucketRateLimiter> limiters = new EnumMap<>(Group.class);
+    private final Map<Group, Counter> rejected = new EnumMap<>(Group.class);
+
+    public RateLimitFilter(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.max-keys:500000}") long maxKeys,
+                           @Value("${app.rate-limit.auth.capacity:10}") int authCapacity,
+                           @Value("${app.rate-limit.auth.refill-per-second:1}") double authRefill,
+                           @Value("${app.rate-limit.read.capacity:200}") int readCapacity,
+                           @Value("${app.rate-limit.read.refill-per-second:100}") double readRefill,
+                           @Value("${app.rate-limit.write.capacity:50}") int writeCapacity,
+                           @Value("${app.rate-limit.write.refill-per-second:20}") double writeRefill) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        limiters.put(Group.AUTH, new TokenBucketRateLimiter(authCapacity, authRefill, maxKeys));
+        limiters.put(Group.READ, new TokenBucketRateLimiter(readCapacity, readRefill, maxKeys));
+        limiters.put(Group.WRITE, new TokenBucketRateLimiter(writeCapacity, writeRefill, maxKeys));
+        for (Group group : Group.values()) {
+            rejected.put(group, Counter.builder("http.rate_limited")
+                    .tag("group", group.name().toLowerCase(Locale.ROOT))
+                    .description("Requests rejected by the rate limiter")
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflights carry no credentials and must not eat into the caller's budget
+        return !enabled || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Group group = groupOf(request);
+        long waitNanos = limiters.get(group).tryAcquire(keyOf(group, request));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejected.get(group).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "message", "Rate limit exceeded, retry after " + retryAfterSeconds + "s",
+                "status", "429",
+                "error", "Too Many Requests"));
+    }
+
+    static Group groupOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/auth/")) return Group.AUTH;
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) ? Group.READ : Group.WRITE;
+    }
+
+    private static String keyOf(Group group, HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (group != Group.AUTH && auth != null && auth.isAuthenticated()
+                && !(auth instanceof AnonymousAuthenticationToken)) {
+            return "user:" + auth.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.employeeapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per key, each held in a single {@link AtomicLong} and updated with CAS (the
+ * generic cell rate algorithm: the long is the time at which the bucket will be full again,
+ * minus one token). No locks are taken on the request path; buckets live in a Caffeine cache
+ * whose buffers are striped.
+ *
+ * <p>A bucket that has been idle long enough to refill completely is indistinguishable from a
+ * new one, so buckets expire after that refill time without changing any decision. The cache is
+ * additionally capped at {@code maxKeys} to bound memory under a flood of distinct keys.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> buckets;
+
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond, long maxKeys) {
+        this(capacity, refillPerSecond, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, double refillPerSecond, long maxKeys, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refill rate must be positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstNanos = intervalNanos * (capacity - 1);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(Math.max(TimeUnit.SECONDS.toNanos(1), intervalNanos * capacity)))
+                .build();
+    }
+
+    /**
+     * Takes one token for key.
+     *
+     * @return 0 if the request may proceed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long tat = bucket.get();
+            long start = Math.max(tat, now);
+            long wait = start - now - burstNanos;
+            if (wait > 0) return wait;
+            if (bucket.compareAndSet(tat, start + intervalNanos)) return 0;
+        }
+    }
+
+    public long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
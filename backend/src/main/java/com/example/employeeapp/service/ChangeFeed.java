@@ -0,0 +1,274 @@
+package com.example.employeeapp.service;
+
+import com.example.employeeapp.exception.TooManySubscribersException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Create/update/delete deltas for employees and users, pushed to {@code GET /api/changes}
+ * subscribers as Server-Sent Events so dashboards do not have to poll the lists.
+ *
+ * <p>Each change is serialized once when it is published and the same string is handed to
+ * every subscriber. The last {@code replaySize} changes are kept so a client reconnecting
+ * with {@code Last-Event-ID} gets what it missed; if its id has already left the window, or
+ * was issued by an earlier process, it gets a {@code reset} event and has to reload.
+ *
+ * <p>An idle subscriber is an async request, an emitter and an empty queue; no thread is held.
+ * Events are written by a small sender pool, at most one task per subscriber at a time. A
+ * subscriber whose queue reaches {@code subscriberBuffer} is disconnected instead of letting
+ * its backlog grow, and can resume from its last event id.
+ *
+ * <p>The feed is per instance: it carries the writes made through this process only. Behind a
+ * load balancer a subscriber misses changes written through other instances, and event ids are
+ * only meaningful to the instance that issued them (another one answers with {@code reset}).
+ * Running several instances needs sticky routing for {@code /api/changes} plus a shared source
+ * such as PostgreSQL LISTEN/NOTIFY or a broker, which this class does not provide.
+ */
+@Service
+public class ChangeFeed implements DisposableBean {
+
+    public enum Collection { EMPLOYEES, USERS }
+
+    public enum Type { CREATED, UPDATED, DELETED, RESET }
+
+    /** One published change; {@code json} is the event payload. */
+    public record Change(long seq, String name, String json) {}
+
+    private static final String RESET_EVENT = "reset";
+    // Queue marker for a keep-alive comment, which proxies need to keep idle streams open
+    private static final Change HEARTBEAT = new Change(-1, null, null);
+
+    private final ObjectMapper objectMapper;
+    private final int replaySize;
+    private final int subscriberBuffer;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final ExecutorService sender;
+    private final Counter slowDisconnects;
+
+    // Ids are "<process>-<seq>", so ids from before a restart are recognised as unknown
+    private final String processId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Guarded by this; publish and subscribe share the lock so a new subscriber sees every
+    // change exactly once, either in its replay or live
+    private final Change[] window;
+    private long nextSeq = 1;
+
+    public ChangeFeed(ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${app.changes.replay-size:1000}") int replaySize,
+                      @Value("${app.changes.subscriber-buffer:256}") int subscriberBuffer,
+                      @Value("${app.changes.max-subscribers:10000}") int maxSubscribers,
+                      @Value("${app.changes.sender-threads:4}") int senderThreads,
+                      @Value("${app.changes.timeout:30m}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.replaySize = replaySize;
+        this.subscriberBuffer = subscriberBuffer;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.window = new Change[replaySize];
+        this.sender = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("changes-"));
+        this.slowDisconnects = Counter.builder("changes.disconnected")
+                .description("Change feed subscribers dropped because their buffer was full")
+                .tag("reason", "slow")
+                .register(meterRegistry);
+        Gauge.builder("changes.subscribers", subscribers, Set::size)
+                .description("Open change feed subscriptions")
+                .register(meterRegistry);
+    }
+
+    public void created(Collection collection, Object body) {
+        publish(collection, Type.CREATED, body);
+    }
+
+    public void updated(Collection collection, Object body) {
+        publish(collection, Type.UPDATED, body);
+    }
+
+    public void deleted(Collection collection, Long id) {
+        publish(collection, Type.DELETED, Map.of("id", id));
+    }
+
+    // Bulk changes, e.g. an import; subscribers reload the collection instead of getting one event per row
+    public void reset(Collection collection) {
+        publish(collection, Type.RESET, Map.of("collection", name(collection)));
+    }
+
+    /**
+     * Opens a subscription. {@code lastEventId} is the id of the last event the client saw, or
+     * null for a new client that only wants changes from now on.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+
+        synchronized (this) {
+            // Checked under the lock, or concurrent subscribes could all pass and overshoot the cap
+            if (subscribers.size() >= maxSubscribers) {
+                throw new TooManySubscribersException("Too many change feed subscribers, retry later");
+            }
+            List<Change> replay = replay(lastEventId);
+            // A backlog larger than the buffer would disconnect the subscriber right away
+            if (replay == null || replay.size() > subscriberBuffer) {
+                subscriber.offer(new Change(nextSeq - 1, RESET_EVENT, "{\"collection\":\"*\"}"));
+            } else {
+                for (Change change : replay) subscriber.offer(change);
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.changes.heartbeat-interval:PT15S}",
+               initialDelayString = "${app.changes.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) subscriber.heartbeat();
+    }
+
+    @Override
+    public void destroy() {
+        for (Subscriber subscriber : subscribers) subscriber.close();
+        sender.shutdown();
+    }
+
+    private void publish(Collection collection, Type type, Object body) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        String event = type == Type.RESET ? RESET_EVENT : name(collection) + "." + type.name().toLowerCase(Locale.ROOT);
+        List<Subscriber> slow = null;
+        synchronized (this) {
+            Change change = new Change(nextSeq, event, json);
+            window[(int) (nextSeq % replaySize)] = change;
+            nextSeq++;
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(change)) {
+                    if (slow == null) slow = new ArrayList<>();
+                    slow.add(subscriber);
+                }
+            }
+        }
+        if (slow != null) {
+            for (Subscriber subscriber : slow) {
+                if (subscriber.close()) slowDisconnects.increment();
+            }
+        }
+    }
+
+    // Changes after lastEventId, or null when they are no longer (or never were) in the window
+    private List<Change> replay(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return List.of();
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !processId.equals(lastEventId.substring(0, dash))) return null;
+        long lastSeq;
+        try {
+            lastSeq = Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        long oldest = Math.max(1, nextSeq - replaySize);
+        if (lastSeq >= nextSeq || lastSeq < oldest - 1) return null;
+        List<Change> missed = new ArrayList<>((int) (nextSeq - 1 - lastSeq));
+        for (long seq = lastSeq + 1; seq < nextSeq; seq++) missed.add(window[(int) (seq % replaySize)]);
+        return missed;
+    }
+
+    private static String name(Collection collection) {
+        return collection == Collection.EMPLOYEES ? "employee" : "user";
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Change> queue = new LinkedBlockingQueue<>(subscriberBuffer);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        boolean offer(Change change) {
+            if (closed.get()) return true;
+            if (!queue.offer(change)) return false;
+            schedule();
+            return true;
+        }
+
+        // Only when nothing is pending; a busy stream needs no keep-alive
+        void heartbeat() {
+            if (queue.isEmpty() && queue.offer(HEARTBEAT)) schedule();
+        }
+
+        // Completes on the sender pool: a write stuck on a slow client holds the emitter, and
+        // the publishing request must not wait for it. False if already closed.
+        boolean close() {
+            if (!closed.compareAndSet(false, true)) return false;
+            subscribers.remove(this);
+            queue.clear();
+            sender.execute(emitter::complete);
+            return true;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) sender.execute(this::drain);
+        }
+
+        private void drain() {
+            try {
+                Change change;
+                while ((change = queue.poll()) != null) {
+                    if (change == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment(""));
+                    } else {
+                        emitter.send(SseEmitter.event().id(processId + "-" + change.seq()).name(change.name()).data(change.json()));
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away or the emitter already completed
+                close();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            // An offer may have raced with the end of the loop
+            if (!queue.isEmpty()) schedule();
+        }
+    }
+}
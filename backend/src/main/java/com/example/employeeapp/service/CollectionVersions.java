@@ -0,0 +1,77 @@
+package com.example.employeeapp.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Version counter per resource collection, kept in the {@code collection_versions} table and
+ * bumped after every write to the collection. Conditional GETs compare against it, so an
+ * unchanged collection is answered with 304 after a single primary-key lookup, and every
+ * instance issues the same tags. Writes that bypass the application (manual SQL) must bump
+ * the row themselves.
+ *
+ * <p>A tag is only as good as the data it is paired with: read the stamp in the same read-only
+ * transaction as the rows it describes, before them, so both come from one connection (replica
+ * or primary). Data read later is at least as new as the stamp, which can only cost an extra
+ * 200, never a 304 for a body older than the tag.
+ */
+@Service
+public class CollectionVersions {
+
+    public enum Collection {
+        EMPLOYEES, USERS;
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public record Stamp(String tagPrefix) {
+        /**
+         * Opaque tag for one view of the collection; {@code variant} distinguishes views such as
+         * different pages or filters. The caller quotes it into an ETag.
+         */
+        public String tag(String variant) {
+            return variant == null || variant.isEmpty() ? tagPrefix : tagPrefix + "-" + digest(variant);
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+
+    public CollectionVersions(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    // Called after the write committed and after the in-memory views were updated: a reader in
+    // between pairs the old tag with new data, which only costs it one extra 200 later, never a
+    // stale 304
+    public void bump(Collection collection) {
+        jdbc.update("UPDATE collection_versions SET version = version + 1 WHERE name = ?", collection.key());
+    }
+
+    // Reads through the current transaction's connection. A caller that has just written is
+    // pinned to the primary, so it never gets its pre-write tag back from a lagging replica.
+    public Stamp current(Collection collection) {
+        return jdbc.queryForObject(
+                "SELECT version, created_at FROM collection_versions WHERE name = ?",
+                (rs, rowNum) -> new Stamp(collection.key() + "-"
+                        + Long.toHexString(rs.getTimestamp("created_at").getTime()) + "-" + rs.getLong("version")),
+                collection.key());
+    }
+
+    // SHA-256 so that distinct variants (pages, filters, ids) cannot share a tag
+    private static String digest(String variant) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(variant.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,26 +1,127 @@
 package com.example.employeeapp.service;
 
+import com.example.employeeapp.config.ReadYourWritesTracker;
+import com.example.employeeapp.config.ReplicaRoutingDataSource;
 import com.example.employeeapp.model.User;
 import com.example.employeeapp.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+    private static final Logger log = LoggerFactory.getLogger(CustomUserDetailsService.class);
+
     private final UserRepository userRepository;
-    public CustomUserDetailsService(UserRepository userRepository) {
+    private final CollectionVersions versions;
+    private final ReadYourWritesTracker recentWrites;
+    // Read-only so that lookups can be served by a replica when replicas are configured
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Only immutable values are cached: Spring Security erases the password on the
+    // UserDetails it authenticated, so handing out a shared instance would break later logins.
+    private final Cache<String, CachedUser> cache;
+    private final LongAdder invalidations = new LongAdder();
+    // Database time of user lookups on cache misses (login and JWT requests alike)
+    private final Timer databaseTimer;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    CollectionVersions versions,
+                                    ReadYourWritesTracker recentWrites,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.security.user-cache.max-size:10000}") long maxSize,
+                                    @Value("${app.security.user-cache.ttl:5m}") Duration ttl) {
         this.userRepository = userRepository;
+        this.versions = versions;
+        this.recentWrites = recentWrites;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+        FunctionCounter.builder("cache.invalidations", invalidations, LongAdder::sum)
+                .tag("cache", "users")
+                .description("Explicit evictions after user changes")
+                .register(meterRegistry);
+        this.databaseTimer = Timer.builder("auth.user.load")
+                .description("User lookups that went to the database")
+                .register(meterRegistry);
     }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User u = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        CachedUser u = cache.get(username, this::loadFromDatabase);
+        if (u == null) throw new UsernameNotFoundException("User not found");
         return new org.springframework.security.core.userdetails.User(
-                u.getUsername(),
-                u.getPassword(),
-                Collections.singletonList(new SimpleGrantedAuthority(u.getRole()))
+                u.username(),
+                u.password(),
+                Collections.singletonList(new SimpleGrantedAuthority(u.role()))
         );
     }
+
+    // Called by DaoAuthenticationProvider after a successful login whose hash cost is outdated.
+    // Best effort: if the row changed concurrently the upgrade is simply retried on the next login.
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        try {
+            userRepository.findByUsername(user.getUsername()).ifPresent(u -> {
+                u.setPassword(newPassword);
+                userRepository.save(u);
+                versions.bump(CollectionVersions.Collection.USERS);
+            });
+        } catch (DataAccessException ex) {
+            log.warn("Could not upgrade password hash of {}: {}", user.getUsername(), ex.getMessage());
+        }
+        evict(user.getUsername());
+        return org.springframework.security.core.userdetails.User.withUserDetails(user).password(newPassword).build();
+    }
+
+    // Must be called whenever a user's username, password or role changes
+    public void evict(String username) {
+        if (username == null) return;
+        // The next load must not see a replica that has not caught up with the change yet
+        recentWrites.markWrite("user:" + username);
+        cache.invalidate(username);
+        invalidations.increment();
+    }
+
+    public long getCacheHitCount() { return cache.stats().hitCount(); }
+    public long getCacheMissCount() { return cache.stats().missCount(); }
+    public long getCacheEvictionCount() { return cache.stats().evictionCount(); }
+    public long getCacheInvalidationCount() { return invalidations.sum(); }
+    public long getCacheSize() { return cache.estimatedSize(); }
+
+    // Unknown usernames return null, which Caffeine does not store
+    private CachedUser loadFromDatabase(String username) {
+        return databaseTimer.record(() -> recentWrites.recentlyWrote("user:" + username)
+                ? ReplicaRoutingDataSource.onPrimary(() -> findUser(username))
+                : findUser(username));
+    }
+
+    private CachedUser findUser(String username) {
+        return readOnlyTransaction.execute(status -> userRepository.findByUsername(username)
+                .map(u -> new CachedUser(u.getUsername(), u.getPassword(), u.getRole()))
+                .orElse(null));
+    }
+
+    private record CachedUser(String username, String password, String role) {}
 }
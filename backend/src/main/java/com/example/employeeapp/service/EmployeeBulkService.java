@@ -0,0 +1,169 @@
+package com.example.employeeapp.service;
+
+import com.example.employeeapp.dto.EmployeeBulkResult;
+import com.example.employeeapp.exception.InvalidBulkRequestException;
+import com.example.employeeapp.model.Employee;
+import com.example.employeeapp.repository.EmployeeQueryRepository;
+import com.example.employeeapp.repository.EmployeeWriteRepository;
+import com.example.employeeapp.repository.EmployeeWriteRepository.Target;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batch reads and set-based bulk writes for integrations that would otherwise call the
+ * single-employee endpoints once per id. Reads use one IN query per chunk of ids (after the
+ * second-level cache); writes run as one UPDATE or DELETE per chunk, all in one transaction.
+ * Every request is capped at {@code app.employees.batch.max-size} distinct ids and answers
+ * with a status per id.
+ *
+ * <p>A bulk write publishes a single {@code reset} to the change feed, like an import.
+ */
+@Service
+public class EmployeeBulkService {
+
+    private final EmployeeQueryRepository queryRepo;
+    private final EmployeeWriteRepository writes;
+    private final EmployeeSearchIndex searchIndex;
+    private final EmployeeReadModel readModel;
+    private final EmployeeStatsService statsService;
+    private final CollectionVersions versions;
+    private final ChangeFeed changes;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxSize;
+    private final int inChunkSize;
+
+    public EmployeeBulkService(EmployeeQueryRepository queryRepo,
+                               EmployeeWriteRepository writes,
+                               EmployeeSearchIndex searchIndex,
+                               EmployeeReadModel readModel,
+                               EmployeeStatsService statsService,
+                               CollectionVersions versions,
+                               ChangeFeed changes,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.employees.batch.max-size:1000}") int maxSize,
+                               @Value("${app.employees.batch.in-chunk-size:500}") int inChunkSize) {
+        this.queryRepo = queryRepo;
+        this.writes = writes;
+        this.searchIndex = searchIndex;
+        this.readModel = readModel;
+        this.statsService = statsService;
+        this.versions = versions;
+        this.changes = changes;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxSize = maxSize;
+        this.inChunkSize = inChunkSize;
+    }
+
+    public EmployeeBulkResult get(List<Long> ids) {
+        List<Target> targets = new ArrayList<>(ids == null ? 0 : ids.size());
+        if (ids != null) {
+            for (Long id : ids) {
+                if (id == null) throw new InvalidBulkRequestException("ids must not contain null");
+                targets.add(new Target(id, null));
+            }
+        }
+        List<Long> distinct = new ArrayList<>(distinct(targets).keySet());
+        List<Employee> rows = queryRepo.findAllById(distinct, inChunkSize);
+        EmployeeBulkResult result = new EmployeeBulkResult();
+        for (int i = 0; i < distinct.size(); i++) {
+            Employee e = rows.get(i);
+            result.add(new EmployeeBulkResult.Item(distinct.get(i), e == null ? 404 : 200, e));
+        }
+        return result;
+    }
+
+    /** Sets the same attributes on every target: 200 with the new state, 404 or 409 per id. */
+    public EmployeeBulkResult update(List<Target> targets, Map<String, String> values) {
+        Map<Long, Target> distinct = distinct(targets);
+        record Outcome(List<EmployeeWriteRepository.Change> changed, Set<Long> existing) {}
+        Outcome outcome = transactionTemplate.execute(status -> {
+            List<EmployeeWriteRepository.Change> changed = writes.updateAll(new ArrayList<>(distinct.values()), values);
+            Set<Long> matched = new HashSet<>();
+            for (EmployeeWriteRepository.Change c : changed) matched.add(c.after().getId());
+            return new Outcome(changed, existingAmongUnmatched(distinct, matched));
+        });
+
+        Map<Long, Employee> updated = new HashMap<>();
+        for (EmployeeWriteRepository.Change c : outcome.changed()) {
+            Employee before = c.before();
+            Employee after = c.after();
+            updated.put(after.getId(), after);
+            searchIndex.put(after);
+            readModel.put(after);
+            statsService.changed(before.getPosition(), before.getEmail(), after);
+        }
+        written(!updated.isEmpty());
+
+        EmployeeBulkResult result = new EmployeeBulkResult();
+        for (Long id : distinct.keySet()) {
+            Employee after = updated.get(id);
+            if (after != null) result.add(new EmployeeBulkResult.Item(id, 200, after));
+            else result.add(new EmployeeBulkResult.Item(id, outcome.existing().contains(id) ? 409 : 404, null));
+        }
+        return result;
+    }
+
+    /** Deletes every target: 204, 404 or 409 per id. */
+    public EmployeeBulkResult delete(List<Target> targets) {
+        Map<Long, Target> distinct = distinct(targets);
+        record Outcome(List<Employee> removed, Set<Long> existing) {}
+        Outcome outcome = transactionTemplate.execute(status -> {
+            List<Employee> removed = writes.deleteAll(new ArrayList<>(distinct.values()));
+            Set<Long> matched = new HashSet<>();
+            for (Employee e : removed) matched.add(e.getId());
+            return new Outcome(removed, existingAmongUnmatched(distinct, matched));
+        });
+
+        Set<Long> removedIds = new HashSet<>();
+        for (Employee e : outcome.removed()) {
+            removedIds.add(e.getId());
+            searchIndex.remove(e.getId());
+            readModel.remove(e);
+            statsService.removed(e);
+        }
+        written(!removedIds.isEmpty());
+
+        EmployeeBulkResult result = new EmployeeBulkResult();
+        for (Long id : distinct.keySet()) {
+            int status = removedIds.contains(id) ? 204 : outcome.existing().contains(id) ? 409 : 404;
+            result.add(new EmployeeBulkResult.Item(id, status, null));
+        }
+        return result;
+    }
+
+    private void written(boolean any) {
+        if (!any) return;
+        versions.bump(CollectionVersions.Collection.EMPLOYEES);
+        changes.reset(ChangeFeed.Collection.EMPLOYEES);
+    }
+
+    // A versioned target that matched nothing is a conflict if the row exists, otherwise 404
+    private Set<Long> existingAmongUnmatched(Map<Long, Target> targets, Set<Long> matched) {
+        List<Long> unmatched = new ArrayList<>();
+        for (Target t : targets.values()) {
+            if (t.version() != null && !matched.contains(t.id())) unmatched.add(t.id());
+        }
+        return unmatched.isEmpty() ? Set.of() : writes.existingIds(unmatched);
+    }
+
+    // First occurrence of each id wins; request order is kept for the results
+    private Map<Long, Target> distinct(List<Target> targets) {
+        if (targets == null || targets.isEmpty()) throw new InvalidBulkRequestException("At least one id is required");
+        Map<Long, Target> distinct = new LinkedHashMap<>();
+        for (Target t : targets) distinct.putIfAbsent(t.id(), t);
+        if (distinct.size() > maxSize) {
+            throw new InvalidBulkRequestException("At most " + maxSize + " ids per request, got " + distinct.size());
+        }
+        return distinct;
+    }
+}
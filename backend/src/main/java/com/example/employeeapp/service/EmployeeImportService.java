@@ -0,0 +1,249 @@
+package com.example.employeeapp.service;
+
+import com.example.employeeapp.dto.EmployeeImportReport;
+import com.example.employeeapp.exception.InvalidImportException;
+import com.example.employeeapp.model.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Streams employees from CSV or NDJSON into the database. Input is read line by line,
+ * every row is validated against the {@link Employee} constraints and valid rows are
+ * persisted in JDBC batches of {@code app.employees.import.batch-size}, one transaction
+ * per batch. When the database refuses a batch its rows are retried one at a time, so only
+ * the rows that fail on their own are reported.
+ */
+@Service
+public class EmployeeImportService {
+
+    public enum Format { CSV, NDJSON }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final EmployeeSearchIndex searchIndex;
+    private final EmployeeReadModel readModel;
+    private final EmployeeStatsService statsService;
+    private final CollectionVersions versions;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public EmployeeImportService(EmployeeSearchIndex searchIndex,
+                                 EmployeeReadModel readModel,
+                                 EmployeeStatsService statsService,
+                                 CollectionVersions versions,
+                                 PlatformTransactionManager transactionManager,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.employees.import.batch-size:500}") int batchSize,
+                                 @Value("${app.employees.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.searchIndex = searchIndex;
+        this.readModel = readModel;
+        this.statsService = statsService;
+        this.versions = versions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public EmployeeImportReport importEmployees(InputStream in, Format format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        EmployeeImportReport report = new EmployeeImportReport();
+        List<Employee> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+        int[] csvColumns = null;
+
+        String line;
+        long lineNo = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) continue;
+            if (format == Format.CSV && csvColumns == null) {
+                csvColumns = parseCsvHeader(line);
+                continue;
+            }
+            report.setReceived(report.getReceived() + 1);
+
+            Employee e;
+            try {
+                e = format == Format.CSV ? parseCsvRow(line, csvColumns) : objectMapper.readValue(line, Employee.class);
+            } catch (IOException | IllegalArgumentException ex) {
+                reject(report, lineNo, List.of("Unparseable row: " + ex.getMessage()));
+                continue;
+            }
+
+            Set<ConstraintViolation<Employee>> violations = validator.validate(e);
+            if (!violations.isEmpty()) {
+                List<String> messages = new ArrayList<>();
+                for (ConstraintViolation<Employee> v : violations) {
+                    messages.add(v.getPropertyPath() + ": " + v.getMessage());
+                }
+                reject(report, lineNo, messages);
+                continue;
+            }
+
+            batch.add(e);
+            batchLines.add(lineNo);
+            if (batch.size() >= batchSize) {
+                writeBatch(batch, batchLines, report);
+            }
+        }
+        writeBatch(batch, batchLines, report);
+        return report;
+    }
+
+    private void writeBatch(List<Employee> batch, List<Long> batchLines, EmployeeImportReport report) {
+        if (batch.isEmpty()) return;
+        try {
+            persist(batch);
+            imported(batch, report);
+        } catch (PersistenceException | DataAccessException batchFailure) {
+            // The rollback took the whole batch with it. Retry its rows one by one so that
+            // only the rows the database really refuses end up in the report.
+            List<Employee> written = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                Employee e = batch.get(i);
+                try {
+                    persist(List.of(e));
+                    written.add(e);
+                } catch (PersistenceException | DataAccessException ex) {
+                    reject(report, batchLines.get(i), List.of(
+                            "Rejected by database: " + NestedExceptionUtils.getMostSpecificCause(ex).getMessage()));
+                }
+            }
+            if (!written.isEmpty()) {
+                imported(written, report);
+            }
+        }
+        batch.clear();
+        batchLines.clear();
+    }
+
+    private void persist(List<Employee> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            for (Employee e : rows) {
+                // A rolled back attempt leaves its generated id and version behind
+                e.setId(null);
+                e.setVersion(null);
+                entityManager.persist(e);
+            }
+            entityManager.flush();
+            // Detach the batch so the persistence context does not grow with the file
+            entityManager.clear();
+        });
+    }
+
+    private void imported(List<Employee> rows, EmployeeImportReport report) {
+        report.setImported(report.getImported() + rows.size());
+        for (Employee e : rows) {
+            searchIndex.put(e);
+            readModel.put(e);
+            statsService.added(e);
+        }
+        versions.bump(CollectionVersions.Collection.EMPLOYEES);
+    }
+
+    private void reject(EmployeeImportReport report, long line, List<String> messages) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < maxReportedErrors) {
+            report.getErrors().add(new EmployeeImportReport.RowError(line, messages));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    // Column order of firstName, lastName, email, position within a CSV row
+    private static int[] parseCsvHeader(String line) {
+        List<String> names = splitCsv(line);
+        int[] columns = {-1, -1, -1, -1};
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+            switch (name) {
+                case "firstname" -> columns[0] = i;
+                case "lastname" -> columns[1] = i;
+                case "email" -> columns[2] = i;
+                case "position" -> columns[3] = i;
+                default -> { }
+            }
+        }
+        for (int c : columns) {
+            if (c < 0) {
+                throw new InvalidImportException("CSV header must contain firstName, lastName, email and position");
+            }
+        }
+        return columns;
+    }
+
+    private static Employee parseCsvRow(String line, int[] columns) {
+        List<String> values = splitCsv(line);
+        Employee e = new Employee();
+        e.setFirstName(column(values, columns[0]));
+        e.setLastName(column(values, columns[1]));
+        e.setEmail(column(values, columns[2]));
+        e.setPosition(column(values, columns[3]));
+        return e;
+    }
+
+    private static String column(List<String> values, int index) {
+        return index < values.size() ? values.get(index).trim() : null;
+    }
+
+    // RFC 4180 fields on a single line: comma separated, optional double quotes, "" escapes a quote
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,474 @@
+package com.example.employeeapp.service;
+
+import com.example.employeeapp.model.Employee;
+import com.example.employeeapp.repository.EmployeeCursorRepository;
+import com.example.employeeapp.repository.EmployeeQueryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Columnar copy of the employees table that answers {@code GET /api/employees} list, filter
+ * and sort queries without the database, Hibernate or per-row entities. Off unless
+ * {@code app.employees.read-model.enabled} is set.
+ *
+ * <p>Row {@code i} of every column is the same employee and rows are kept in id order. Ids and
+ * versions are {@code long} arrays; first names, positions and email domains are int codes
+ * into dictionaries that hold one String per distinct value; only last names and the part of
+ * the email before the '@' are stored per row. That is roughly 100 bytes per employee against
+ * several hundred for an entity with its persistence-context and second-level-cache entries.
+ * Dictionaries only grow until the next rebuild.
+ *
+ * <p>Filters and the keyset order mean the same as in SQL (see {@code EmployeeSpecifications}),
+ * except that text is compared in Java String order, which matches H2's default collation but
+ * not a PostgreSQL locale collation. An id-ordered page is a binary search and a scan; other
+ * orders keep the best {@code limit} matches in a heap. Reads share a read lock, writes take
+ * the write lock for a single row.
+ *
+ * <p>The model is filled from the database once the application is ready and then kept current
+ * by the employee write paths, like {@link EmployeeSearchIndex}. Writers publish after their
+ * transaction commits, so two writes to one employee can arrive out of order: a put is ignored
+ * unless its version is newer than the stored row, and a delete leaves a tombstone with the
+ * deleted version so a late put of that row cannot bring it back.
+ */
+@Service
+public class EmployeeReadModel {
+
+    /** List filters with the semantics of {@code EmployeeSpecifications}; null means unfiltered. */
+    public record Filter(String position, String emailDomain, String name) {}
+
+    private static final int NO_DOMAIN = -1;
+
+    private final EmployeeCursorRepository cursorRepo;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    // Guarded by lock
+    private long[] ids = new long[1024];
+    private long[] versions = new long[1024];
+    private int[] firstNames = new int[1024];
+    private String[] lastNames = new String[1024];
+    private String[] emailLocals = new String[1024];
+    private int[] emailDomains = new int[1024];
+    private int[] positions = new int[1024];
+    private int rows;
+    private final Map<Long, Long> deletedVersions = new HashMap<>();
+    private final Dictionary firstNameDict = new Dictionary();
+    private final Dictionary domainDict = new Dictionary();
+    private final Dictionary positionDict = new Dictionary();
+
+    public EmployeeReadModel(EmployeeCursorRepository cursorRepo,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.employees.read-model.enabled:false}") boolean enabled) {
+        this.cursorRepo = cursorRepo;
+        this.enabled = enabled;
+        if (enabled) {
+            Gauge.builder("employees.read_model.rows", this, EmployeeReadModel::size)
+                    .description("Employees held by the columnar list read model")
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) return;
+        clear();
+        cursorRepo.forEach(this::put);
+        loaded = true;
+    }
+
+    /** Whether list queries should be answered here rather than by the database. */
+    public boolean isServing() {
+        return enabled && loaded;
+    }
+
+    /**
+     * Up to {@code limit} rows matching the filter in the given order, starting after the row
+     * with the sort-key values {@code after} (null for the first page). Rows are field name to
+     * value maps holding the {@code fields} in {@link EmployeeQueryRepository#FIELDS} order.
+     *
+     * @throws IllegalArgumentException if {@code after} does not fit the order
+     */
+    public List<Map<String, Object>> find(Filter filter, List<Sort.Order> order, List<String> after,
+                                          Collection<String> fields, int limit) {
+        Object[] cursor = after == null ? null : cursorKeys(order, after);
+        lock.readLock().lock();
+        try {
+            Matcher matcher = matcher(filter);
+            if (matcher == null || limit <= 0) return List.of();
+            int[] page = order.size() == 1
+                    ? scanById(matcher, order.get(0).isAscending(), cursor, limit)
+                    : topRows(matcher, order, cursor, limit);
+            List<Map<String, Object>> result = new ArrayList<>(page.length);
+            for (int row : page) result.add(toMap(row, fields));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(Employee e) {
+        if (!enabled || e.getId() == null) return;
+        long version = e.getVersion() == null ? 0 : e.getVersion();
+        lock.writeLock().lock();
+        try {
+            int at = Arrays.binarySearch(ids, 0, rows, e.getId());
+            if (at >= 0 && versions[at] >= version) return;
+            if (at < 0) {
+                Long deleted = deletedVersions.get(e.getId());
+                if (deleted != null && deleted >= version) return;
+                at = -at - 1;
+                ensureCapacity(rows + 1);
+                shift(at, at + 1, rows - at);
+                rows++;
+            }
+            ids[at] = e.getId();
+            versions[at] = version;
+            firstNames[at] = firstNameDict.code(e.getFirstName());
+            lastNames[at] = e.getLastName();
+            positions[at] = positionDict.code(e.getPosition());
+            String email = e.getEmail();
+            int sign = email == null ? -1 : email.lastIndexOf('@');
+            emailLocals[at] = sign < 0 ? email : email.substring(0, sign);
+            emailDomains[at] = sign < 0 ? NO_DOMAIN : domainDict.code(email.substring(sign + 1));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Drops the row deleted at {@code removed}'s version and remembers that version. */
+    public void remove(Employee removed) {
+        if (!enabled || removed.getId() == null) return;
+        long version = removed.getVersion() == null ? 0 : removed.getVersion();
+        lock.writeLock().lock();
+        try {
+            deletedVersions.merge(removed.getId(), version, Math::max);
+            int at = Arrays.binarySearch(ids, 0, rows, removed.getId());
+            if (at < 0) return;
+            shift(at + 1, at, rows - at - 1);
+            rows--;
+            lastNames[rows] = null;
+            emailLocals[rows] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Pages in id order need no sorting: find the cursor by binary search and scan from there
+    private int[] scanById(Matcher matcher, boolean ascending, Object[] cursor, int limit) {
+        int[] page = new int[Math.min(limit, rows)];
+        int n = 0;
+        if (ascending) {
+            int from = cursor == null ? 0 : insertionPoint((Long) cursor[0], true);
+            for (int row = from; row < rows && n < page.length; row++) {
+                if (matcher.matches(row)) page[n++] = row;
+            }
+        } else {
+            int from = cursor == null ? rows - 1 : insertionPoint((Long) cursor[0], false) - 1;
+            for (int row = from; row >= 0 && n < page.length; row--) {
+                if (matcher.matches(row)) page[n++] = row;
+            }
+        }
+        return Arrays.copyOf(page, n);
+    }
+
+    // First row with an id greater than (or, with !after, at least) the given one
+    private int insertionPoint(long id, boolean after) {
+        int at = Arrays.binarySearch(ids, 0, rows, id);
+        if (at < 0) return -at - 1;
+        return after ? at + 1 : at;
+    }
+
+    // The first `limit` matching rows after the cursor, kept in a max-heap on the order so the
+    // current worst row is at the top and each candidate costs O(log limit)
+    private int[] topRows(Matcher matcher, List<Sort.Order> order, Object[] cursor, int limit) {
+        int[] heap = new int[Math.min(limit, rows)];
+        int n = 0;
+        for (int row = 0; row < rows; row++) {
+            if (!matcher.matches(row) || (cursor != null && compareToCursor(row, order, cursor) <= 0)) continue;
+            if (n < heap.length) {
+                heap[n] = row;
+                siftUp(heap, n++, order);
+            } else if (heap.length > 0 && compare(row, heap[0], order) < 0) {
+                heap[0] = row;
+                siftDown(heap, n, order);
+            }
+        }
+        // Pop the heap from the back: each pop moves the worst remaining row to the end
+        for (int end = n - 1; end > 0; end--) {
+            int top = heap[0];
+            heap[0] = heap[end];
+            heap[end] = top;
+            siftDown(heap, end, order);
+        }
+        return Arrays.copyOf(heap, n);
+    }
+
+    private void siftUp(int[] heap, int i, List<Sort.Order> order) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (compare(heap[i], heap[parent], order) <= 0) return;
+            swap(heap, i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int size, List<Sort.Order> order) {
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) return;
+            if (child + 1 < size && compare(heap[child + 1], heap[child], order) > 0) child++;
+            if (compare(heap[i], heap[child], order) >= 0) return;
+            swap(heap, i, child);
+            i = child;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int t = heap[i];
+        heap[i] = heap[j];
+        heap[j] = t;
+    }
+
+    private int compare(int a, int b, List<Sort.Order> order) {
+        for (Sort.Order o : order) {
+            int c = switch (o.getProperty()) {
+                case "id" -> Long.compare(ids[a], ids[b]);
+                case "firstName" -> firstNameDict.value(firstNames[a]).compareTo(firstNameDict.value(firstNames[b]));
+                case "lastName" -> lastNames[a].compareTo(lastNames[b]);
+                case "email" -> compareEmail(emailLocals[a], domain(a), emailLocals[b], domain(b));
+                case "position" -> positionDict.value(positions[a]).compareTo(positionDict.value(positions[b]));
+                default -> throw new IllegalArgumentException("Cannot sort by " + o.getProperty());
+            };
+            if (c != 0) return o.isAscending() ? c : -c;
+        }
+        return 0;
+    }
+
+    // > 0 when the row comes after the cursor in the given order
+    private int compareToCursor(int row, List<Sort.Order> order, Object[] cursor) {
+        for (int i = 0; i < order.size(); i++) {
+            Sort.Order o = order.get(i);
+            int c = switch (o.getProperty()) {
+                case "id" -> Long.compare(ids[row], (Long) cursor[i]);
+                case "firstName" -> firstNameDict.value(firstNames[row]).compareTo((String) cursor[i]);
+                case "lastName" -> lastNames[row].compareTo((String) cursor[i]);
+                case "email" -> {
+                    String[] email = (String[]) cursor[i];
+                    yield compareEmail(emailLocals[row], domain(row), email[0], email[1]);
+                }
+                case "position" -> positionDict.value(positions[row]).compareTo((String) cursor[i]);
+                default -> throw new IllegalArgumentException("Cannot sort by " + o.getProperty());
+            };
+            if (c != 0) return o.isAscending() ? c : -c;
+        }
+        return 0;
+    }
+
+    // Cursor values converted once per query: Long ids, emails split at the '@' like the rows
+    private static Object[] cursorKeys(List<Sort.Order> order, List<String> after) {
+        if (order.size() != after.size()) {
+            throw new IllegalArgumentException("Expected " + order.size() + " cursor values, got " + after.size());
+        }
+        Object[] keys = new Object[after.size()];
+        for (int i = 0; i < keys.length; i++) {
+            String value = after.get(i);
+            keys[i] = switch (order.get(i).getProperty()) {
+                case "id" -> Long.valueOf(value);
+                case "email" -> {
+                    int sign = value.lastIndexOf('@');
+                    yield sign < 0 ? new String[] {value, null} : new String[] {value.substring(0, sign), value.substring(sign + 1)};
+                }
+                default -> value;
+            };
+        }
+        return keys;
+    }
+
+    // local + '@' + domain (just local without a domain) in String order, without concatenating
+    private static int compareEmail(String localA, String domainA, String localB, String domainB) {
+        int lengthA = localA.length() + (domainA == null ? 0 : domainA.length() + 1);
+        int lengthB = localB.length() + (domainB == null ? 0 : domainB.length() + 1);
+        int n = Math.min(lengthA, lengthB);
+        for (int i = 0; i < n; i++) {
+            char a = emailChar(localA, domainA, i);
+            char b = emailChar(localB, domainB, i);
+            if (a != b) return a - b;
+        }
+        return lengthA - lengthB;
+    }
+
+    private static char emailChar(String local, String domain, int i) {
+        if (i < local.length()) return local.charAt(i);
+        return i == local.length() ? '@' : domain.charAt(i - local.length() - 1);
+    }
+
+    private String domain(int row) {
+        return emailDomains[row] == NO_DOMAIN ? null : domainDict.value(emailDomains[row]);
+    }
+
+    // Null when a filter value cannot match any row
+    private Matcher matcher(Filter filter) {
+        int position = -1;
+        if (filter.position() != null) {
+            position = positionDict.find(filter.position());
+            if (position < 0) return null;
+        }
+        boolean[] domains = null;
+        if (filter.emailDomain() != null) {
+            String wanted = filter.emailDomain().toLowerCase(Locale.ROOT);
+            domains = new boolean[domainDict.size];
+            boolean any = false;
+            for (int code = 0; code < domainDict.size; code++) {
+                domains[code] = domainDict.value(code).toLowerCase(Locale.ROOT).equals(wanted);
+                any |= domains[code];
+            }
+            if (!any) return null;
+        }
+        return new Matcher(position, domains, filter.name());
+    }
+
+    private Map<String, Object> toMap(int row, Collection<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : EmployeeQueryRepository.FIELDS) {
+            if (!fields.contains(field)) continue;
+            values.put(field, switch (field) {
+                case "id" -> ids[row];
+                case "firstName" -> firstNameDict.value(firstNames[row]);
+                case "lastName" -> lastNames[row];
+                case "email" -> emailDomains[row] == NO_DOMAIN ? emailLocals[row] : emailLocals[row] + "@" + domain(row);
+                case "position" -> positionDict.value(positions[row]);
+                case "version" -> versions[row];
+                default -> throw new IllegalArgumentException("Unknown field " + field);
+            });
+        }
+        return values;
+    }
+
+    // Moves `length` rows of every column from `from` to `to`
+    private void shift(int from, int to, int length) {
+        if (length <= 0) return;
+        System.arraycopy(ids, from, ids, to, length);
+        System.arraycopy(versions, from, versions, to, length);
+        System.arraycopy(firstNames, from, firstNames, to, length);
+        System.arraycopy(lastNames, from, lastNames, to, length);
+        System.arraycopy(emailLocals, from, emailLocals, to, length);
+        System.arraycopy(emailDomains, from, emailDomains, to, length);
+        System.arraycopy(positions, from, positions, to, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) return;
+        int newCapacity = Math.max(capacity, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, newCapacity);
+        versions = Arrays.copyOf(versions, newCapacity);
+        firstNames = Arrays.copyOf(firstNames, newCapacity);
+        lastNames = Arrays.copyOf(lastNames, newCapacity);
+        emailLocals = Arrays.copyOf(emailLocals, newCapacity);
+        emailDomains = Arrays.copyOf(emailDomains, newCapacity);
+        positions = Arrays.copyOf(positions, newCapacity);
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            loaded = false;
+            ids = new long[1024];
+            versions = new long[1024];
+            firstNames = new int[1024];
+            lastNames = new String[1024];
+            emailLocals = new String[1024];
+            emailDomains = new int[1024];
+            positions = new int[1024];
+            rows = 0;
+            deletedVersions.clear();
+            firstNameDict.clear();
+            domainDict.clear();
+            positionDict.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Filter checks on the codes: an int compare for position, a table lookup for the domain
+    private final class Matcher {
+
+        private final int position;
+        private final boolean[] domains;
+        private final String name;
+
+        Matcher(int position, boolean[] domains, String name) {
+            this.position = position;
+            this.domains = domains;
+            this.name = name;
+        }
+
+        boolean matches(int row) {
+            if (position >= 0 && positions[row] != position) return false;
+            if (domains != null && (emailDomains[row] == NO_DOMAIN || !domains[emailDomains[row]])) return false;
+            if (name != null) {
+                String first = firstNameDict.value(firstNames[row]);
+                return first.regionMatches(true, 0, name, 0, name.length())
+                        || lastNames[row].regionMatches(true, 0, name, 0, name.length());
+            }
+            return true;
+        }
+    }
+
+    // One String instance per distinct value, addressed by a dense int code
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private String[] values = new String[64];
+        private int size;
+
+        int code(String value) {
+            Integer code = codes.get(value);
+            if (code != null) return code;
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size] = value;
+            codes.put(value, size);
+            return size++;
+        }
+
+        int find(String value) {
+            Integer code = codes.get(value);
+            return code == null ? -1 : code;
+        }
+
+        String value(int code) {
+            return values[code];
+        }
+
+        void clear() {
+            codes.clear();
+            values = new String[64];
+            size = 0;
+        }
+    }
+}
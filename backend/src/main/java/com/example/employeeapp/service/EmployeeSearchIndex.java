@@ -0,0 +1,306 @@
+package com.example.employeeapp.service;
+
+import com.example.employeeapp.model.Employee;
+import com.example.employeeapp.repository.EmployeeCursorRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over firstName, lastName, email and position.
+ *
+ * <p>Terms are lower-cased and folded to plain ASCII, so "muller", "mueller" and "Müller"
+ * all find Müller. Every query token is a prefix match and all tokens must match (AND).
+ * Documents live in dense int slots; posting lists are append-only int arrays and removed
+ * documents are tombstoned, with a compaction once tombstones outnumber live documents.
+ * Reads share a read lock, writes take the write lock for a single document.
+ *
+ * <p>The index is filled from the database once the application is ready and then kept
+ * current by the employee write paths.
+ */
+@Service
+public class EmployeeSearchIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int MIN_DEAD_FOR_COMPACTION = 10_000;
+    // Upper bound on distinct terms walked when estimating how selective a query token is
+    private static final int MAX_TERMS_TO_COUNT = 10_000;
+    private static final int BITSET_SWITCH_CANDIDATES = 2_000;
+
+    private final EmployeeCursorRepository cursorRepo;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private final TreeMap<String, IntList> postings = new TreeMap<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private long[] slotIds = new long[1024];
+    // Space-separated terms of each live slot, null once the slot is dead
+    private String[] slotTerms = new String[1024];
+    private int slots;
+    private int deadSlots;
+
+    public EmployeeSearchIndex(EmployeeCursorRepository cursorRepo) {
+        this.cursorRepo = cursorRepo;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        clear();
+        cursorRepo.forEach(this::put);
+    }
+
+    /**
+     * Ids of employees matching every token of the query, at most {@code limit}. Results are
+     * unranked; they come back in term order of the most selective query token.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> tokens = new ArrayList<>(queryTokens(query));
+        if (tokens.isEmpty() || limit <= 0) return List.of();
+
+        List<Long> result = new ArrayList<>(Math.min(limit, 64));
+        Set<Integer> seen = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            // Scan the postings of the most selective token and check the others per document
+            String driver = mostSelective(tokens);
+            List<String> others = new ArrayList<>(tokens);
+            others.remove(driver);
+            // Per-document term checks are cheap for a few candidates; once many have been
+            // looked at, switch to slot bitsets of the other tokens so the cost stays linear
+            // in the postings touched even when almost nothing matches.
+            BitSet[] filters = null;
+            int checked = 0;
+            for (IntList list : prefixRange(driver).values()) {
+                for (int i = 0; i < list.size; i++) {
+                    int slot = list.values[i];
+                    String terms = slotTerms[slot];
+                    if (terms == null) continue;
+                    if (filters == null && !others.isEmpty() && ++checked > BITSET_SWITCH_CANDIDATES) {
+                        filters = slotFilters(others);
+                    }
+                    boolean match = filters != null ? allSet(filters, slot) : matchesAll(terms, others);
+                    if (!match || !seen.add(slot)) continue;
+                    result.add(slotIds[slot]);
+                    if (result.size() >= limit) return result;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet[] slotFilters(List<String> tokens) {
+        BitSet[] filters = new BitSet[tokens.size()];
+        for (int t = 0; t < filters.length; t++) {
+            BitSet bits = new BitSet(slots);
+            for (IntList list : prefixRange(tokens.get(t)).values()) {
+                for (int i = 0; i < list.size; i++) bits.set(list.values[i]);
+            }
+            filters[t] = bits;
+        }
+        return filters;
+    }
+
+    private static boolean allSet(BitSet[] filters, int slot) {
+        for (BitSet bits : filters) {
+            if (!bits.get(slot)) return false;
+        }
+        return true;
+    }
+
+    // Token with the fewest postings; counting stops as soon as it cannot beat the current best
+    private String mostSelective(List<String> tokens) {
+        tokens.sort((a, b) -> b.length() - a.length());
+        String best = tokens.get(0);
+        long bestCount = Long.MAX_VALUE;
+        for (String token : tokens) {
+            long count = 0;
+            int terms = 0;
+            for (IntList list : prefixRange(token).values()) {
+                count += list.size;
+                if (count >= bestCount || ++terms > MAX_TERMS_TO_COUNT) break;
+            }
+            if (count < bestCount && terms <= MAX_TERMS_TO_COUNT) {
+                best = token;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    public void put(Employee e) {
+        if (e.getId() == null) return;
+        String terms = String.join(" ", indexTerms(e));
+        lock.writeLock().lock();
+        try {
+            removeLocked(e.getId());
+            int slot = slots++;
+            ensureCapacity(slots);
+            slotIds[slot] = e.getId();
+            slotTerms[slot] = terms;
+            slotById.put(e.getId(), slot);
+            for (String term : terms.split(" ")) {
+                postings.computeIfAbsent(term, t -> new IntList()).add(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            slotById.clear();
+            slotIds = new long[1024];
+            slotTerms = new String[1024];
+            slots = 0;
+            deadSlots = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) return;
+        slotTerms[slot] = null;
+        deadSlots++;
+        if (deadSlots > MIN_DEAD_FOR_COMPACTION && deadSlots > slotById.size()) {
+            compactLocked();
+        }
+    }
+
+    // Renumbers live documents into fresh slots and drops dead postings
+    private void compactLocked() {
+        long[] oldIds = slotIds;
+        String[] oldTerms = slotTerms;
+        int oldSlots = slots;
+        int live = slotById.size();
+        postings.clear();
+        slotById.clear();
+        slotIds = new long[Math.max(1024, live * 2)];
+        slotTerms = new String[slotIds.length];
+        slots = 0;
+        deadSlots = 0;
+        for (int old = 0; old < oldSlots; old++) {
+            if (oldTerms[old] == null) continue;
+            int slot = slots++;
+            ensureCapacity(slots);
+            slotIds[slot] = oldIds[old];
+            slotTerms[slot] = oldTerms[old];
+            slotById.put(oldIds[old], slot);
+            for (String term : oldTerms[old].split(" ")) {
+                postings.computeIfAbsent(term, t -> new IntList()).add(slot);
+            }
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= slotIds.length) return;
+        int capacity = Math.max(required, slotIds.length * 2);
+        slotIds = Arrays.copyOf(slotIds, capacity);
+        slotTerms = Arrays.copyOf(slotTerms, capacity);
+    }
+
+    private NavigableMap<String, IntList> prefixRange(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private static boolean matchesAll(String terms, List<String> tokens) {
+        for (String token : tokens) {
+            if (!hasTermWithPrefix(terms, token)) return false;
+        }
+        return true;
+    }
+
+    // True if some space-separated term in terms starts with prefix
+    private static boolean hasTermWithPrefix(String terms, String prefix) {
+        int from = 0;
+        int at;
+        while ((at = terms.indexOf(prefix, from)) >= 0) {
+            if (at == 0 || terms.charAt(at - 1) == ' ') return true;
+            from = at + 1;
+        }
+        return false;
+    }
+
+    static Set<String> indexTerms(Employee e) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String field : new String[]{e.getFirstName(), e.getLastName(), e.getEmail(), e.getPosition()}) {
+            if (field == null) continue;
+            String lower = field.toLowerCase(Locale.ROOT);
+            tokenize(fold(lower), terms);
+            // German spelling without umlauts, so "mueller" finds Müller as well as "muller"
+            tokenize(fold(transliterate(lower)), terms);
+        }
+        return terms;
+    }
+
+    static Set<String> queryTokens(String query) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (query != null) tokenize(fold(query.toLowerCase(Locale.ROOT)), tokens);
+        return tokens;
+    }
+
+    private static void tokenize(String text, Set<String> into) {
+        for (String token : NON_WORD.split(text)) {
+            if (!token.isEmpty()) into.add(token);
+        }
+    }
+
+    private static String fold(String lower) {
+        String decomposed = Normalizer.normalize(lower.replace("ß", "ss"), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("");
+    }
+
+    private static String transliterate(String lower) {
+        return lower.replace("ä", "ae").replace("ö", "oe").replace("ü", "ue").replace("ß", "ss");
+    }
+
+    private static final class IntList {
+        int[] values = new int[2];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.employeeapp.service;
+
+import com.example.employeeapp.dto.EmployeeStats;
+import com.example.employeeapp.model.Employee;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dashboard aggregates kept in memory. The employee write paths adjust the counters in O(1);
+ * a periodic reconciliation replaces them with GROUP BY results from the database so any
+ * drift (writes outside the app, failed requests) is corrected within one interval.
+ */
+@Service
+public class EmployeeStatsService {
+
+    private static final String COUNT_BY_POSITION =
+            "SELECT position, COUNT(*) FROM employees GROUP BY position";
+    private static final String COUNT_BY_DOMAIN =
+            "SELECT LOWER(SUBSTRING(email FROM POSITION('@' IN email) + 1)), COUNT(*) FROM employees"
+            + " GROUP BY LOWER(SUBSTRING(email FROM POSITION('@' IN email) + 1))";
+
+    private final JdbcTemplate jdbc;
+
+    private volatile ConcurrentHashMap<String, Long> byPosition = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<String, Long> byDomain = new ConcurrentHashMap<>();
+    private final AtomicLong total = new AtomicLong();
+    private volatile Instant reconciledAt;
+
+    public EmployeeStatsService(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public EmployeeStats snapshot() {
+        return new EmployeeStats(total.get(), new TreeMap<>(byPosition), new TreeMap<>(byDomain), reconciledAt);
+    }
+
+    public void added(Employee e) {
+        adjust(e.getPosition(), e.getEmail(), 1);
+        total.incrementAndGet();
+    }
+
+    public void removed(Employee e) {
+        adjust(e.getPosition(), e.getEmail(), -1);
+        total.decrementAndGet();
+    }
+
+    public void changed(String oldPosition, String oldEmail, Employee now) {
+        adjust(oldPosition, oldEmail, -1);
+        adjust(now.getPosition(), now.getEmail(), 1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.employees.stats.reconcile-interval:PT5M}",
+               initialDelayString = "${app.employees.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        ConcurrentHashMap<String, Long> positions = new ConcurrentHashMap<>();
+        AtomicLong count = new AtomicLong();
+        jdbc.query(COUNT_BY_POSITION, rs -> {
+            count.addAndGet(rs.getLong(2));
+            if (rs.getString(1) != null) positions.put(rs.getString(1), rs.getLong(2));
+        });
+        ConcurrentHashMap<String, Long> domains = new ConcurrentHashMap<>();
+        jdbc.query(COUNT_BY_DOMAIN, rs -> {
+            if (rs.getString(1) != null) domains.put(rs.getString(1), rs.getLong(2));
+        });
+
+        // Writes that land between the queries and the swap are corrected by the next run
+        byPosition = positions;
+        byDomain = domains;
+        total.set(count.get());
+        reconciledAt = Instant.now();
+    }
+
+    private void adjust(String position, String email, int delta) {
+        increment(byPosition, position, delta);
+        increment(byDomain, domainOf(email), delta);
+    }
+
+    private static void increment(Map<String, Long> counts, String key, int delta) {
+        if (key == null) return;
+        counts.compute(key, (k, v) -> {
+            long next = (v == null ? 0 : v) + delta;
+            return next > 0 ? next : null;
+        });
+    }
+
+    static String domainOf(String email) {
+        if (email == null) return null;
+        int at = email.indexOf('@');
+        return at < 0 ? null : email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+}
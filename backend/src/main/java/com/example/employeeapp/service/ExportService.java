@@ -0,0 +1,173 @@
+package com.example.employeeapp.service;
+
+import com.example.employeeapp.exception.InvalidExportFormatException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Full-table dumps written straight from a read-only, forward-only JDBC cursor.
+ * Nothing is collected in memory: each row is encoded and written as soon as it is read,
+ * and because servlet output stream writes block while the client is behind, a slow
+ * reader simply slows down the cursor instead of building up a buffer.
+ */
+@Service
+public class ExportService {
+
+    public enum Table {
+        EMPLOYEES("employees", "SELECT id, first_name, last_name, email, position FROM employees ORDER BY id",
+                "id", "firstName", "lastName", "email", "position"),
+        // Password hashes are deliberately not part of the export
+        USERS("users", "SELECT id, username, email, role FROM users ORDER BY id",
+                "id", "username", "email", "role");
+
+        private final String fileName;
+        private final String sql;
+        private final String[] fields;
+
+        Table(String fileName, String sql, String... fields) {
+            this.fileName = fileName;
+            this.sql = sql;
+            this.fields = fields;
+        }
+
+        public String fileName() { return fileName; }
+    }
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() { return contentType; }
+        public String extension() { return extension; }
+
+        public static Format from(String value) {
+            for (Format f : values()) {
+                if (f.extension.equals(value.toLowerCase(Locale.ROOT))) return f;
+            }
+            throw new InvalidExportFormatException("Unsupported export format '" + value + "', use ndjson or csv");
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+    private final JsonFactory jsonFactory;
+
+    public ExportService(DataSource dataSource,
+                         ObjectMapper objectMapper,
+                         @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(fetchSize);
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    // The transaction is what lets PostgreSQL use a server-side cursor for the fetch size
+    @Transactional(readOnly = true)
+    public void export(Table table, Format format, OutputStream out) throws IOException {
+        RowWriter writer = format == Format.CSV
+                ? new CsvRowWriter(out, table.fields)
+                : new NdjsonRowWriter(jsonFactory.createGenerator(out).setRootValueSeparator(null), table.fields);
+        try {
+            jdbc.query(con -> con.prepareStatement(table.sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY),
+                    rs -> {
+                        try {
+                            writer.write(rs);
+                        } catch (IOException ex) {
+                            // Typically the client went away; abort the query instead of reading on
+                            throw new UncheckedIOException(ex);
+                        }
+                    });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.finish();
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws IOException, SQLException;
+        void finish() throws IOException;
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator gen;
+        private final String[] fields;
+
+        NdjsonRowWriter(JsonGenerator gen, String[] fields) {
+            this.gen = gen;
+            this.fields = fields;
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException, SQLException {
+            gen.writeStartObject();
+            for (int i = 0; i < fields.length; i++) {
+                gen.writeFieldName(fields[i]);
+                gen.writeObject(rs.getObject(i + 1));
+            }
+            gen.writeEndObject();
+            gen.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            gen.flush();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer out;
+        private final int columns;
+
+        CsvRowWriter(OutputStream out, String[] fields) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.columns = fields.length;
+            this.out.write(String.join(",", fields));
+            this.out.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException, SQLException {
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) out.write(',');
+                String value = rs.getString(i);
+                if (value != null) out.write(escape(value));
+            }
+            out.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            out.flush();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
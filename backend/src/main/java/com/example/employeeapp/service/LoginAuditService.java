@@ -0,0 +1,262 @@
+package com.example.employeeapp.service;
+
+import com.example.employeeapp.model.User;
+import com.example.employeeapp.repository.SqlWriteCacheSync;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind login audit. {@link #record} only appends to a bounded lock-free queue, so the
+ * login request never waits for the database. A single flusher thread writes the queue to
+ * {@code login_audit} and {@code users.last_login_at} in JDBC batches, every
+ * {@code app.audit.login.flush-interval} or as soon as {@code batch-size} events are waiting.
+ *
+ * <p>When the queue is full new events are counted as {@code overflow} and discarded; events
+ * the database refuses, or that arrive after shutdown began, are counted as {@code dropped}.
+ * A failed batch is retried event by event, so one bad row does not cost the others. On
+ * shutdown the queue is drained.
+ */
+@Service
+public class LoginAuditService implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginAuditService.class);
+
+    private static final String INSERT_AUDIT =
+            "INSERT INTO login_audit (username, success, remote_addr, occurred_at) VALUES (?, ?, ?, ?)";
+    // Batches can be flushed out of order during shutdown, so never move the timestamp backwards
+    private static final String UPDATE_LAST_LOGIN =
+            "UPDATE users SET last_login_at = ? WHERE username = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    // Column sizes in login_audit; failed-login usernames are whatever the client sent
+    private static final int USERNAME_LENGTH = 255;
+    private static final int REMOTE_ADDR_LENGTH = 64;
+
+    private record LoginEvent(String username, boolean success, String remoteAddr, Instant occurredAt) {}
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final CollectionVersions versions;
+    private final SqlWriteCacheSync cacheSync;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final ConcurrentLinkedQueue<LoginEvent> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() is O(n), so the bound is enforced with a separate counter
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter accepted;
+    private final Counter overflow;
+    private final Counter written;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public LoginAuditService(JdbcTemplate jdbc,
+                             PlatformTransactionManager transactionManager,
+                             CollectionVersions versions,
+                             SqlWriteCacheSync cacheSync,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.audit.login.queue-capacity:10000}") int capacity,
+                             @Value("${app.audit.login.batch-size:200}") int batchSize,
+                             @Value("${app.audit.login.flush-interval:250ms}") Duration flushInterval) {
+        this.jdbc = jdbc;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.versions = versions;
+        this.cacheSync = cacheSync;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.accepted = auditCounter(meterRegistry, "accepted");
+        this.overflow = auditCounter(meterRegistry, "overflow");
+        this.written = auditCounter(meterRegistry, "written");
+        this.dropped = auditCounter(meterRegistry, "dropped");
+        Gauge.builder("audit.login.queue.size", queued, AtomicInteger::get)
+                .description("Login audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    private static Counter auditCounter(MeterRegistry registry, String result) {
+        return Counter.builder("audit.login.events").tag("result", result)
+                .description("Login audit events by outcome")
+                .register(registry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        flusher = new Thread(this::flushLoop, "login-audit-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /** Queues a login attempt; never blocks and never throws. */
+    public void record(String username, boolean success, String remoteAddr) {
+        if (username == null) return;
+        if (!running) {
+            dropped.increment();
+            return;
+        }
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            overflow.increment();
+            return;
+        }
+        queue.offer(new LoginEvent(truncate(username, USERNAME_LENGTH), success,
+                truncate(remoteAddr, REMOTE_ADDR_LENGTH), Instant.now()));
+        accepted.increment();
+        if (queued.get() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    /** Writes everything queued so far; returns the number of events taken off the queue. */
+    public int flush() {
+        int total = 0;
+        int n;
+        while ((n = flushBatch()) > 0) {
+            total += n;
+        }
+        return total;
+    }
+
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    private void flushLoop() {
+        while (running) {
+            if (queued.get() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            try {
+                flush();
+            } catch (RuntimeException ex) {
+                log.warn("Login audit flush failed", ex);
+            }
+        }
+    }
+
+    private int flushBatch() {
+        List<LoginEvent> batch = new ArrayList<>(batchSize);
+        LoginEvent event;
+        while (batch.size() < batchSize && (event = queue.poll()) != null) {
+            batch.add(event);
+        }
+        if (batch.isEmpty()) return 0;
+        queued.addAndGet(-batch.size());
+
+        List<Long> changedIds = new ArrayList<>();
+        int failed = 0;
+        try {
+            changedIds.addAll(write(batch));
+        } catch (DataAccessException batchFailure) {
+            // The rollback took every event of the batch with it. Retry them one by one so that
+            // only the events the database really refuses are dropped.
+            for (LoginEvent e : batch) {
+                try {
+                    changedIds.addAll(write(List.of(e)));
+                } catch (DataAccessException ex) {
+                    failed++;
+                    // The username is client input, so it stays out of the log
+                    log.warn("Dropped a login audit event: {}", ex.getMessage());
+                }
+            }
+        }
+        if (failed > 0) dropped.increment(failed);
+        if (failed < batch.size()) written.increment(batch.size() - failed);
+        if (!changedIds.isEmpty()) {
+            versions.bump(CollectionVersions.Collection.USERS);
+        }
+        return batch.size();
+    }
+
+    // One transaction: the audit rows, then last_login_at for the latest successful login of
+    // each user. Returns the ids of the users whose row changed.
+    private List<Long> write(List<LoginEvent> events) {
+        // Latest successful login per user, so each user costs one UPDATE per batch
+        Map<String, Instant> lastLogins = new HashMap<>();
+        for (LoginEvent e : events) {
+            if (e.success()) lastLogins.merge(e.username(), e.occurredAt(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+        List<Object[]> auditRows = new ArrayList<>(events.size());
+        for (LoginEvent e : events) {
+            auditRows.add(new Object[]{e.username(), e.success(), e.remoteAddr(), utc(e.occurredAt())});
+        }
+        List<String> usernames = new ArrayList<>(lastLogins.size());
+        List<Object[]> lastLoginRows = new ArrayList<>(lastLogins.size());
+        lastLogins.forEach((username, at) -> {
+            usernames.add(username);
+            lastLoginRows.add(new Object[]{utc(at), username, utc(at)});
+        });
+
+        return transactionTemplate.execute(status -> {
+            jdbc.batchUpdate(INSERT_AUDIT, auditRows);
+            if (lastLoginRows.isEmpty()) return List.<Long>of();
+            int[] updated = jdbc.batchUpdate(UPDATE_LAST_LOGIN, lastLoginRows);
+            // last_login_at is changed behind Hibernate's back; sync just those users'
+            // cache entries instead of evicting the whole region
+            List<Long> ids = changedUserIds(usernames, updated);
+            if (!ids.isEmpty()) cacheSync.written(User.class, ids);
+            return ids;
+        });
+    }
+
+    // Ids of the users whose row the batch UPDATE actually changed (the guard skips older logins)
+    private List<Long> changedUserIds(List<String> usernames, int[] updated) {
+        List<String> changed = new ArrayList<>(usernames.size());
+        for (int i = 0; i < updated.length; i++) {
+            // SUCCESS_NO_INFO is possible with some drivers; treat it as a change
+            if (updated[i] != 0) changed.add(usernames.get(i));
+        }
+        if (changed.isEmpty()) return List.of();
+        String placeholders = String.join(", ", Collections.nCopies(changed.size(), "?"));
+        return jdbc.queryForList("SELECT id FROM users WHERE username IN (" + placeholders + ")",
+                Long.class, changed.toArray());
+    }
+
+    private static String truncate(String value, int length) {
+        return value == null || value.length() <= length ? value : value.substring(0, length);
+    }
+
+    // Instant columns are TIMESTAMP WITH TIME ZONE; pass an explicit offset so the JVM zone is irrelevant
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        int remaining = flush();
+        if (remaining > 0) {
+            log.info("Flushed {} login audit events on shutdown", remaining);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+-- Current schema, written so it also upgrades a database created by the former
+-- ddl-auto=update: such databases are baselined at version 0 (spring.flyway.baseline-on-migrate),
+-- so this script runs on them too, creating only what is missing. Their IDENTITY ids are kept;
+-- Hibernate now supplies ids from employees_seq, which V1_1 moves past the existing rows.
+
+-- Pooled ids: the increment must match allocationSize on Employee
+CREATE SEQUENCE IF NOT EXISTS employees_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS employees (
+    id         BIGINT       NOT NULL,
+    version    BIGINT       DEFAULT 0 NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    last_name  VARCHAR(255) NOT NULL,
+    position   VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    version       BIGINT       DEFAULT 0 NOT NULL,
+    username      VARCHAR(255) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    email         VARCHAR(255),
+    role          VARCHAR(255) NOT NULL,
+    last_login_at TIMESTAMP(6) WITH TIME ZONE,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+-- Columns the ddl-auto=update schema did not have
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS last_login_at TIMESTAMP(6) WITH TIME ZONE;
+
+CREATE TABLE IF NOT EXISTS login_audit (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username    VARCHAR(255) NOT NULL,
+    success     BOOLEAN      NOT NULL,
+    remote_addr VARCHAR(64),
+    occurred_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_login_audit_username_time ON login_audit (username, occurred_at);
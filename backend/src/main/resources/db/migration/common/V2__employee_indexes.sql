@@ -0,0 +1,7 @@
+-- One employee per email address. Databases carried over from ddl-auto=update must have
+-- duplicate emails cleaned up before this migration can run.
+CREATE UNIQUE INDEX uk_employees_email ON employees (email);
+
+-- Sorting and filtering by name and position
+CREATE INDEX idx_employees_last_name ON employees (last_name, first_name);
+CREATE INDEX idx_employees_position ON employees (position);
@@ -0,0 +1,12 @@
+-- Version counter per resource collection, bumped by the application after every write to it.
+-- ETags are derived from this row, so every instance answers conditional GETs alike. created_at
+-- changes when the database is recreated, so tags from a previous database never match.
+CREATE TABLE collection_versions (
+    name       VARCHAR(32) NOT NULL,
+    version    BIGINT      DEFAULT 0 NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO collection_versions (name) VALUES ('employees');
+INSERT INTO collection_versions (name) VALUES ('users');
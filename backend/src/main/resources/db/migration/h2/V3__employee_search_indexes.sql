@@ -0,0 +1,3 @@
+-- H2 has neither trigram nor expression indexes; index the raw first name so the V3 version
+-- exists on every vendor. Case-insensitive search stays a scan on the in-memory database.
+CREATE INDEX idx_employees_first_name ON employees (first_name);
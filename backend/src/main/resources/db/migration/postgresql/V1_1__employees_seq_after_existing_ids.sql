@@ -0,0 +1,3 @@
+-- The pooled optimizer hands out the 50 ids up to each value it draws, so the first value must
+-- be 50 above the highest existing id. On an empty table this is 1, the sequence's own start.
+SELECT setval('employees_seq', COALESCE(MAX(id), -49) + 50, false) FROM employees;
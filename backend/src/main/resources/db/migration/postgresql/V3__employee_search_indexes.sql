@@ -0,0 +1,11 @@
+-- Case-insensitive substring/prefix filters (lower(col) LIKE '%term%') use trigram indexes.
+-- pg_trgm is a trusted extension, so the database owner can create it without superuser.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_employees_first_name_trgm ON employees USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX idx_employees_last_name_trgm ON employees USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX idx_employees_email_trgm ON employees USING gin (lower(email) gin_trgm_ops);
+
+-- Case-insensitive equality and sorting
+CREATE INDEX idx_employees_last_name_lower ON employees (lower(last_name));
+CREATE INDEX idx_employees_email_lower ON employees (lower(email));
@@ -0,0 +1,70 @@
+package com.example.employeeapp;
+
+import com.example.employeeapp.model.Employee;
+import com.example.employeeapp.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A database as the former ddl-auto=update left it: IDENTITY ids, no version columns, no
+// last_login_at, no employees_seq and no login_audit. Startup must migrate it so that
+// ddl-auto=validate passes and new ids do not collide with the existing rows.
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + LegacySchemaUpgradeTest.URL,
+        "app.seed.employees=none"
+})
+@DirtiesContext
+public class LegacySchemaUpgradeTest {
+
+    static final String URL = "jdbc:h2:mem:legacy_schema;DB_CLOSE_DELAY=-1";
+
+    static {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE employees (id BIGINT GENERATED BY DEFAULT AS IDENTITY, email VARCHAR(255),"
+                    + " first_name VARCHAR(255), last_name VARCHAR(255), position VARCHAR(255), PRIMARY KEY (id))");
+            statement.execute("CREATE TABLE users (id BIGINT GENERATED BY DEFAULT AS IDENTITY, email VARCHAR(255),"
+                    + " password VARCHAR(255) NOT NULL, role VARCHAR(255) NOT NULL, username VARCHAR(255) NOT NULL UNIQUE,"
+                    + " PRIMARY KEY (id))");
+            statement.execute("INSERT INTO employees (id, email, first_name, last_name, position) VALUES"
+                    + " (7, 'alt@firma.de', 'Alt', 'Bestand', 'Archivar'), (120, 'alt2@firma.de', 'Alt', 'Zwei', 'Archivar')");
+        } catch (SQLException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    @DisplayName("A ddl-auto=update database is baselined at 0 and upgraded by the migrations")
+    public void testLegacySchemaUpgraded() {
+        assertEquals("0", jdbc.queryForObject(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"type\" = 'BASELINE'", String.class));
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE NOT \"success\"", Integer.class));
+        assertEquals(0L, jdbc.queryForObject("SELECT version FROM employees WHERE id = 120", Long.class));
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM login_audit", Integer.class));
+        assertNull(jdbc.queryForObject("SELECT last_login_at FROM users WHERE username = 'admin'", Object.class));
+
+        Employee e = new Employee();
+        e.setFirstName("Neu");
+        e.setLastName("Anfang");
+        e.setEmail("neu@firma.de");
+        e.setPosition("Archivar");
+        assertTrue(employeeRepository.save(e).getId() > 120);
+        assertEquals(3, employeeRepository.count());
+    }
+}
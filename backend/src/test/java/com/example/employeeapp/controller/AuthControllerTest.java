@@ -0,0 +1,227 @@
+package com.example.employeeapp.controller;
+
+import com.example.employeeapp.dto.LoginRequest;
+import com.example.employeeapp.model.User;
+import com.example.employeeapp.repository.UserRepository;
+import com.example.employeeapp.service.LoginAuditService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class AuthControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LoginAuditService loginAudit;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @Test
+    @DisplayName("Repeated logins succeed when user details come from the cache")
+    public void testRepeatedLoginWithCachedUser() throws Exception {
+        LoginRequest request = new LoginRequest();
+        request.setUsername("admin");
+        request.setPassword("admin");
+        String body = objectMapper.writeValueAsString(request);
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.token").exists());
+        }
+    }
+
+    @Test
+    @DisplayName("Login records password hashing and database lookup time separately")
+    public void testLoginMetrics() throws Exception {
+        LoginRequest request = new LoginRequest();
+        request.setUsername("admin");
+        request.setPassword("admin");
+
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        assertEquals(1, meterRegistry.get("auth.password").tag("operation", "matches").timer().count());
+        assertEquals(1, meterRegistry.get("auth.user.load").timer().count());
+        assertTrue(meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "hit").functionCounter().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Logins are audited in the background and update last_login_at, which stays private")
+    public void testLoginAudit() throws Exception {
+        LoginRequest good = new LoginRequest();
+        good.setUsername("admin");
+        good.setPassword("admin");
+        LoginRequest bad = new LoginRequest();
+        bad.setUsername("admin");
+        bad.setPassword("wrong");
+
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(good)))
+                .andExpect(status().isOk());
+        // Without the security filter chain the BadCredentialsException reaches MockMvc
+        assertThrows(Exception.class, () -> mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bad))));
+        // The background flusher may already hold the events, so flush() alone can return before
+        // they are committed; wait for the written counter instead
+        loginAudit.flush();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (written() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, written());
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM login_audit WHERE username = 'admin' AND success = TRUE", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM login_audit WHERE username = 'admin' AND success = FALSE", Integer.class));
+        assertNotNull(jdbcTemplate.queryForObject(
+                "SELECT last_login_at FROM users WHERE username = 'admin'", Object.class));
+        assertEquals(0, loginAudit.getQueuedCount());
+
+        // The public user list shows neither login times nor password hashes
+        mockMvc.perform(get("/api/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].username").exists())
+                .andExpect(jsonPath("$[*].lastLoginAt").isEmpty())
+                .andExpect(jsonPath("$[*].password").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Oversized failed-login names are truncated and a refused event does not drop its batch")
+    public void testLoginAuditSurvivesBadEvents() throws Exception {
+        // Stands in for any row the database refuses
+        jdbcTemplate.execute("ALTER TABLE login_audit ADD CONSTRAINT test_no_poison CHECK (username <> 'poison')");
+        double dropped = meterRegistry.get("audit.login.events").tag("result", "dropped").counter().count();
+
+        loginAudit.record("x".repeat(1000), false, "y".repeat(100));
+        loginAudit.record("poison", false, "127.0.0.1");
+        loginAudit.record("admin", true, "127.0.0.1");
+        loginAudit.flush();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (written() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(2, written());
+        assertEquals(dropped + 1, meterRegistry.get("audit.login.events").tag("result", "dropped").counter().count());
+        assertEquals(255, jdbcTemplate.queryForObject(
+                "SELECT LENGTH(username) FROM login_audit WHERE username LIKE 'xxx%'", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM login_audit WHERE username = 'admin' AND success = TRUE", Integer.class));
+        assertNotNull(jdbcTemplate.queryForObject(
+                "SELECT last_login_at FROM users WHERE username = 'admin'", Object.class));
+    }
+
+    @Test
+    @DisplayName("Recording a login evicts only that user from the second-level cache")
+    public void testLoginAuditEvictsOnlyLoggedInUser() throws Exception {
+        Long adminId = userRepository.findByUsername("admin").orElseThrow().getId();
+        Long otherId = userRepository.findByUsername("max.mueller").orElseThrow().getId();
+        userRepository.findById(adminId);
+        userRepository.findById(otherId);
+        Cache cache = entityManagerFactory.getCache();
+        assertTrue(cache.contains(User.class, adminId));
+        assertTrue(cache.contains(User.class, otherId));
+
+        LoginRequest good = new LoginRequest();
+        good.setUsername("admin");
+        good.setPassword("admin");
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(good)))
+                .andExpect(status().isOk());
+        loginAudit.flush();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (written() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // The admin entry stays soft-locked until the next load replaces it, so check by hits
+        CacheRegionStatistics users = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics().getDomainDataRegionStatistics("users");
+        long hits = users.getHitCount();
+        assertNotNull(userRepository.findById(adminId).orElseThrow().getLastLoginAt());
+        assertEquals(hits, users.getHitCount());
+        userRepository.findById(otherId);
+        assertEquals(hits + 1, users.getHitCount());
+    }
+
+    @Test
+    @DisplayName("A password hashed at an outdated cost is rehashed on successful login")
+    public void testPasswordRehashedOnLogin() throws Exception {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        admin.setPassword(new BCryptPasswordEncoder(4).encode("admin"));
+        userRepository.save(admin);
+
+        LoginRequest request = new LoginRequest();
+        request.setUsername("admin");
+        request.setPassword("admin");
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        String upgraded = userRepository.findByUsername("admin").orElseThrow().getPassword();
+        assertTrue(upgraded.startsWith("$2a$") && !upgraded.startsWith("$2a$04$"));
+        assertTrue(new BCryptPasswordEncoder().matches("admin", upgraded));
+    }
+
+    private double written() {
+        return meterRegistry.get("audit.login.events").tag("result", "written").counter().count();
+    }
+}
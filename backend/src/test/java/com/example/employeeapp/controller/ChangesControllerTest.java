@@ -0,0 +1,115 @@
+package com.example.employeeapp.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ChangesControllerTest {
+
+    private static final Pattern CREATED_ID = Pattern.compile("id:(\\S+)\nevent:employee\\.created\n");
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @Test
+    @DisplayName("Employee writes are pushed to subscribers and replayed after Last-Event-ID")
+    public void testDeltasAndReplay() throws Exception {
+        MvcResult live = mockMvc.perform(get("/api/changes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult post = mockMvc.perform(post("/api/employees").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Jana\",\"lastName\":\"Klein\",\"email\":\"jana.klein@firma.de\",\"position\":\"Controllerin\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        Number id = JsonPath.read(post.getResponse().getContentAsString(), "$.id");
+        String content = awaitContent(live, "event:employee.created");
+        assertTrue(content.contains("\"lastName\":\"Klein\""));
+
+        Matcher created = CREATED_ID.matcher(content);
+        assertTrue(created.find(), content);
+        mockMvc.perform(delete("/api/employees/" + id.longValue())).andExpect(status().isNoContent());
+        awaitContent(live, "event:employee.deleted");
+
+        // A reconnecting client gets only what came after the id it last saw
+        MvcResult resumed = mockMvc.perform(get("/api/changes").header("Last-Event-ID", created.group(1)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String replay = awaitContent(resumed, "event:employee.deleted");
+        assertFalse(replay.contains("event:employee.created"));
+    }
+
+    @Test
+    @DisplayName("Registered users are pushed and role changes carry the full user view")
+    public void testUserEvents() throws Exception {
+        MvcResult live = mockMvc.perform(get("/api/changes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"jana.klein\",\"password\":\"geheim123\"}"))
+                .andExpect(status().isOk());
+        String content = awaitContent(live, "event:user.created");
+        assertTrue(content.contains("\"username\":\"jana.klein\""), content);
+        assertFalse(content.contains("password"), content);
+
+        List<Number> ids = JsonPath.read(mockMvc.perform(get("/api/users")).andReturn().getResponse().getContentAsString(),
+                "$[?(@.username == 'jana.klein')].id");
+        mockMvc.perform(put("/api/users/" + ids.get(0).longValue() + "/role").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"role\":\"ADMIN\"}"))
+                .andExpect(status().isOk());
+        content = awaitContent(live, "event:user.updated");
+        String updated = content.substring(content.indexOf("event:user.updated"));
+        assertTrue(updated.contains("\"username\":\"jana.klein\""), updated);
+        assertTrue(updated.contains("\"role\":\"ROLE_ADMIN\""), updated);
+        assertTrue(updated.contains("\"version\":1"), updated);
+    }
+
+    @Test
+    @DisplayName("An unknown Last-Event-ID gets a reset event")
+    public void testUnknownLastEventIdResets() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/changes").param("lastEventId", "0-42"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(result, "event:reset");
+    }
+
+    // Events are written by the sender pool, so the body grows after perform() has returned
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+}
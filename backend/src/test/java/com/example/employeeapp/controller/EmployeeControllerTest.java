@@ -0,0 +1,531 @@
+package com.example.employeeapp.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.equalToIgnoringCase;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class EmployeeControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @Test
+    @DisplayName("Keyset pages follow X-Next-Cursor until the last page")
+    public void testKeysetPagination() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/employees").param("size", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(header().exists(EmployeeController.NEXT_CURSOR_HEADER))
+                .andReturn();
+        String cursor = first.getResponse().getHeader(EmployeeController.NEXT_CURSOR_HEADER);
+
+        MvcResult second = mockMvc.perform(get("/api/employees").param("size", "4").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andReturn();
+        cursor = second.getResponse().getHeader(EmployeeController.NEXT_CURSOR_HEADER);
+
+        // 10 seeded employees: the third page holds the remaining 2 and has no cursor
+        mockMvc.perform(get("/api/employees").param("size", "4").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().doesNotExist(EmployeeController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("Sorted sparse pages return only the requested fields and chain via cursor")
+    public void testSortedSparsePages() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/employees")
+                        .param("sort", "-firstName").param("fields", "firstName").param("size", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].firstName").value("Sophie"))
+                .andExpect(jsonPath("$[3].firstName").value("Maximilian"))
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[0].email").doesNotExist())
+                .andReturn();
+        String cursor = first.getResponse().getHeader(EmployeeController.NEXT_CURSOR_HEADER);
+
+        MvcResult second = mockMvc.perform(get("/api/employees")
+                        .param("sort", "-firstName").param("fields", "firstName").param("size", "4").param("cursor", cursor))
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].firstName").value("Marie"))
+                .andReturn();
+        cursor = second.getResponse().getHeader(EmployeeController.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get("/api/employees")
+                        .param("sort", "-firstName").param("fields", "firstName").param("size", "4").param("cursor", cursor))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].firstName").value("Anna"))
+                .andExpect(header().doesNotExist(EmployeeController.NEXT_CURSOR_HEADER));
+
+        // A cursor only continues the sort it was issued for
+        mockMvc.perform(get("/api/employees").param("sort", "lastName").param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Position, email domain and name prefix filters are combined")
+    public void testFilters() throws Exception {
+        mockMvc.perform(get("/api/employees").param("position", "UX Designer"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].lastName").value("Weber"));
+        mockMvc.perform(get("/api/employees").param("emailDomain", "FIRMA.de").param("name", "le"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].firstName").value("Lena"));
+        mockMvc.perform(get("/api/employees").param("emailDomain", "partner.de"))
+                .andExpect(jsonPath("$", hasSize(0)));
+        // LIKE wildcards in the input are literals
+        mockMvc.perform(get("/api/employees").param("name", "%"))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Unknown sort or field names return 400")
+    public void testInvalidSortAndFields() throws Exception {
+        mockMvc.perform(get("/api/employees").param("sort", "salary"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("400"));
+        mockMvc.perform(get("/api/employees").param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Malformed cursor returns 400")
+    public void testInvalidCursorReturns400() throws Exception {
+        mockMvc.perform(get("/api/employees").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("400"));
+    }
+
+    @Test
+    @DisplayName("Streaming mode writes every row as one JSON array")
+    public void testStreamReturnsAllRows() throws Exception {
+        mockMvc.perform(get("/api/employees/stream"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(10)))
+                .andExpect(jsonPath("$[0].firstName").value("Maximilian"));
+    }
+
+    @Test
+    @DisplayName("CSV import writes valid rows and reports invalid ones by line")
+    public void testCsvImportReportsRowErrors() throws Exception {
+        String csv = "firstName,lastName,email,position\n"
+                + "Jana,Klein,jana.klein@firma.de,Controllerin\n"
+                + "Tim,Wolf,not-an-email,Entwickler\n"
+                + "\"Eva, Maria\",Neumann,eva.neumann@firma.de,\"Team \"\"Lead\"\"\"\n";
+
+        mockMvc.perform(post("/api/employees/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+
+        mockMvc.perform(get("/api/employees/stream"))
+                .andExpect(jsonPath("$", hasSize(12)))
+                .andExpect(jsonPath("$[11].firstName").value("Eva, Maria"))
+                .andExpect(jsonPath("$[11].position").value("Team \"Lead\""));
+    }
+
+    @Test
+    @DisplayName("NDJSON import rejects unparseable lines without aborting")
+    public void testNdjsonImport() throws Exception {
+        String ndjson = "{\"firstName\":\"Jana\",\"lastName\":\"Klein\",\"email\":\"jana.klein@firma.de\",\"position\":\"Controllerin\"}\n"
+                + "{broken\n"
+                + "{\"firstName\":\"Tim\",\"lastName\":\"Wolf\",\"email\":\"tim.wolf@firma.de\",\"position\":\"Entwickler\"}\n";
+
+        mockMvc.perform(post("/api/employees/import").contentType("application/x-ndjson").content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2));
+    }
+
+    @Test
+    @DisplayName("A row the database refuses does not reject the rest of its batch")
+    public void testImportRetriesFailedBatchRowByRow() throws Exception {
+        String csv = "firstName,lastName,email,position\n"
+                + "Jana,Klein,jana.klein@firma.de,Controllerin\n"
+                + "Max,Doppelt,max.mueller@firma.de,Entwickler\n"
+                + "Tim,Wolf,tim.wolf@firma.de,Entwickler\n";
+
+        mockMvc.perform(post("/api/employees/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+
+        mockMvc.perform(get("/api/employees/stream"))
+                .andExpect(jsonPath("$", hasSize(12)));
+    }
+
+    @Test
+    @DisplayName("CSV export writes a header and one line per employee")
+    public void testCsvExport() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/employees/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"employees.csv\""))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\r\n");
+        assertEquals("id,firstName,lastName,email,position", lines[0]);
+        assertEquals(11, lines.length);
+    }
+
+    @Test
+    @DisplayName("NDJSON export is gzip-encoded when accepted and rejects unknown formats")
+    public void testNdjsonExportGzip() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/employees/export").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        String ndjson = new String(new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes(),
+                StandardCharsets.UTF_8);
+        assertEquals(10, ndjson.split("\n").length);
+        assertTrue(ndjson.startsWith("{\"id\":"));
+
+        mockMvc.perform(get("/api/employees/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Smile and CBOR bodies are negotiated through Accept; JSON stays the default")
+    public void testBinaryJsonNegotiation() throws Exception {
+        MvcResult smile = mockMvc.perform(get("/api/employees").param("fields", "id,lastName")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"))
+                .andReturn();
+        JsonNode rows = new ObjectMapper(new SmileFactory()).readTree(smile.getResponse().getContentAsByteArray());
+        assertEquals(10, rows.size());
+        assertEquals("Müller", rows.get(0).get("lastName").asText());
+        assertNull(rows.get(0).get("email"));
+
+        MvcResult cbor = mockMvc.perform(get("/api/users").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/cbor"))
+                .andReturn();
+        assertTrue(new ObjectMapper(new CBORFactory()).readTree(cbor.getResponse().getContentAsByteArray()).isArray());
+
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(content().contentTypeCompatibleWith("application/json"));
+    }
+
+    @Test
+    @DisplayName("Search matches prefixes regardless of umlauts and follows writes")
+    public void testSearch() throws Exception {
+        mockMvc.perform(get("/api/employees/search").param("q", "Schaf"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].lastName").value("Schäfer"));
+        mockMvc.perform(get("/api/employees/search").param("q", "muell"))
+                .andExpect(jsonPath("$[0].lastName").value("Müller"));
+        mockMvc.perform(get("/api/employees/search").param("q", "lena produkt"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].firstName").value("Lena"));
+
+        mockMvc.perform(post("/api/employees")
+                        .contentType("application/json")
+                        .content("{\"firstName\":\"Jürgen\",\"lastName\":\"Groß\",\"email\":\"juergen.gross@firma.de\",\"position\":\"Architekt\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees/search").param("q", "gross jurg"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].lastName").value("Groß"));
+    }
+
+    @Test
+    @DisplayName("Stats counters follow create, update and delete")
+    public void testStats() throws Exception {
+        mockMvc.perform(get("/api/employees/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(10))
+                .andExpect(jsonPath("$.byEmailDomain['firma.de']").value(10))
+                .andExpect(jsonPath("$.byPosition['UX Designer']").value(1));
+
+        MvcResult created = mockMvc.perform(post("/api/employees")
+                        .contentType("application/json")
+                        .content("{\"firstName\":\"Tim\",\"lastName\":\"Wolf\",\"email\":\"tim.wolf@partner.de\",\"position\":\"UX Designer\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String id = JsonPath.read(created.getResponse().getContentAsString(), "$.id").toString();
+
+        mockMvc.perform(get("/api/employees/stats"))
+                .andExpect(jsonPath("$.total").value(11))
+                .andExpect(jsonPath("$.byEmailDomain['partner.de']").value(1))
+                .andExpect(jsonPath("$.byPosition['UX Designer']").value(2));
+
+        mockMvc.perform(put("/api/employees/" + id)
+                        .contentType("application/json")
+                        .content("{\"firstName\":\"Tim\",\"lastName\":\"Wolf\",\"email\":\"tim.wolf@firma.de\",\"position\":\"Architekt\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees/stats"))
+                .andExpect(jsonPath("$.byEmailDomain['partner.de']").doesNotExist())
+                .andExpect(jsonPath("$.byPosition['Architekt']").value(1))
+                .andExpect(jsonPath("$.byPosition['UX Designer']").value(1));
+
+        mockMvc.perform(delete("/api/employees/" + id)).andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/employees/stats"))
+                .andExpect(jsonPath("$.total").value(10))
+                .andExpect(jsonPath("$.byPosition['Architekt']").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Conditional GET returns 304 until the collection changes")
+    public void testConditionalGet() throws Exception {
+        String etag = mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("W/\"")))
+                .andExpect(header().stringValues("Vary", hasItem(equalToIgnoringCase("Accept"))))
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/employees").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        // Smile and CBOR bodies are different representations with their own tags
+        mockMvc.perform(get("/api/employees").accept("application/x-jackson-smile").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag.replace("-json\"", "-smile\"")));
+        // A different page is a different representation
+        mockMvc.perform(get("/api/employees").param("size", "2").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/employees")
+                        .contentType("application/json")
+                        .content("{\"firstName\":\"Tim\",\"lastName\":\"Wolf\",\"email\":\"tim.wolf@firma.de\",\"position\":\"Architekt\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(0));
+
+        mockMvc.perform(get("/api/employees").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("A single employee is tagged with its row version")
+    public void testConditionalGetById() throws Exception {
+        String list = mockMvc.perform(get("/api/employees").param("size", "2"))
+                .andReturn().getResponse().getContentAsString();
+        Number id = JsonPath.read(list, "$[0].id");
+        Number other = JsonPath.read(list, "$[1].id");
+        String etag = mockMvc.perform(get("/api/employees/" + id))
+                .andExpect(header().string("ETag", "W/\"employee-" + id + "-0-json\""))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Writes to other rows leave the tag alone
+        mockMvc.perform(patch("/api/employees/" + other)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"position\":\"Architekt\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees/" + id).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch("/api/employees/" + id)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"position\":\"Architekt\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees/" + id).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"employee-" + id + "-1-json\""));
+    }
+
+    @Test
+    @DisplayName("Single-employee reads go to the database, so a row changed elsewhere is not served stale")
+    public void testGetByIdBypassesSecondLevelCache() throws Exception {
+        String list = mockMvc.perform(get("/api/employees").param("size", "1"))
+                .andReturn().getResponse().getContentAsString();
+        Number id = JsonPath.read(list, "$[0].id");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        mockMvc.perform(get("/api/employees/" + id)).andExpect(status().isOk());
+
+        // Another instance or manual SQL: this instance's cache is not told
+        jdbcTemplate.update("UPDATE employees SET position = 'Extern', version = version + 1 WHERE id = ?", id);
+        statistics.clear();
+        mockMvc.perform(get("/api/employees/" + id))
+                .andExpect(jsonPath("$.position").value("Extern"))
+                .andExpect(header().string("ETag", "W/\"employee-" + id + "-1-json\""));
+        assertEquals(0, statistics.getSecondLevelCacheHitCount());
+
+        mockMvc.perform(put("/api/employees/" + id)
+                        .contentType("application/json")
+                        .content("{\"firstName\":\"Tim\",\"lastName\":\"Wolf\",\"email\":\"tim.wolf@firma.de\",\"position\":\"Architekt\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees/" + id))
+                .andExpect(jsonPath("$.position").value("Architekt"))
+                .andExpect(jsonPath("$.version").value(2));
+    }
+
+    @Test
+    @DisplayName("Merge patch updates only the given fields and answers 409 for a stale version")
+    public void testMergePatchWithVersion() throws Exception {
+        String list = mockMvc.perform(get("/api/employees").param("size", "1"))
+                .andReturn().getResponse().getContentAsString();
+        Number id = JsonPath.read(list, "$[0].id");
+
+        mockMvc.perform(patch("/api/employees/" + id)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"position\":\"Architekt\",\"version\":0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.position").value("Architekt"))
+                .andExpect(jsonPath("$.lastName").value("Müller"))
+                .andExpect(jsonPath("$.version").value(1));
+        mockMvc.perform(get("/api/employees/stats"))
+                .andExpect(jsonPath("$.byPosition['Architekt']").value(1))
+                .andExpect(jsonPath("$.byPosition['Softwareentwickler']").doesNotExist());
+
+        // Same base version again: someone else's change must not be overwritten
+        mockMvc.perform(patch("/api/employees/" + id)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"position\":\"Entwickler\",\"version\":0}"))
+                .andExpect(status().isConflict());
+        mockMvc.perform(get("/api/employees/" + id))
+                .andExpect(jsonPath("$.position").value("Architekt"));
+
+        mockMvc.perform(patch("/api/employees/" + id)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"email\":\"not-an-email\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/employees/" + id)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"lastName\":null}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/employees/999999")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"position\":\"Architekt\"}"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete("/api/employees/" + id).param("version", "0"))
+                .andExpect(status().isConflict());
+        mockMvc.perform(delete("/api/employees/" + id).param("version", "1"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/employees/" + id))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Batch read and bulk writes report a status per id")
+    public void testBatchGetAndBulkWrites() throws Exception {
+        String list = mockMvc.perform(get("/api/employees").param("size", "3"))
+                .andReturn().getResponse().getContentAsString();
+        Number a = JsonPath.read(list, "$[0].id");
+        Number b = JsonPath.read(list, "$[1].id");
+        Number c = JsonPath.read(list, "$[2].id");
+
+        mockMvc.perform(post("/api/employees/batch-get").contentType("application/json")
+                        .content("{\"ids\":[" + b + ",999999," + a + "," + b + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(3)))
+                .andExpect(jsonPath("$.results[0].id").value(b.longValue()))
+                .andExpect(jsonPath("$.results[0].employee.id").value(b.longValue()))
+                .andExpect(jsonPath("$.results[1].status").value(404))
+                .andExpect(jsonPath("$.results[2].status").value(200))
+                .andExpect(jsonPath("$.failed").value(1));
+
+        // b is already at version 1 when the bulk update expects 0
+        mockMvc.perform(patch("/api/employees/" + b).contentType("application/merge-patch+json")
+                        .content("{\"lastName\":\"Berger\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/employees/bulk-update").contentType("application/json")
+                        .content("{\"items\":[{\"id\":" + a + ",\"version\":0},{\"id\":" + b + ",\"version\":0},"
+                                + "{\"id\":" + c + "},{\"id\":999999}],\"set\":{\"position\":\"Architekt\"}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[0].employee.position").value("Architekt"))
+                .andExpect(jsonPath("$.results[0].employee.version").value(1))
+                .andExpect(jsonPath("$.results[1].status").value(409))
+                .andExpect(jsonPath("$.results[2].status").value(200))
+                .andExpect(jsonPath("$.results[3].status").value(404))
+                .andExpect(jsonPath("$.succeeded").value(2));
+        mockMvc.perform(get("/api/employees/" + a))
+                .andExpect(jsonPath("$.position").value("Architekt"));
+        mockMvc.perform(get("/api/employees/stats"))
+                .andExpect(jsonPath("$.byPosition['Architekt']").value(2));
+
+        mockMvc.perform(post("/api/employees/bulk-update").contentType("application/json")
+                        .content("{\"items\":[{\"id\":" + a + "}],\"set\":{\"email\":\"not-an-email\"}}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/employees/bulk-update").contentType("application/json")
+                        .content("{\"items\":[{\"id\":" + a + "},{\"id\":" + c + "}],\"set\":{\"email\":\"shared@firma.de\"}}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/employees/bulk-delete").contentType("application/json")
+                        .content("{\"items\":[{\"id\":" + a + ",\"version\":1},{\"id\":" + b + ",\"version\":0},{\"id\":" + c + "}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value(204))
+                .andExpect(jsonPath("$.results[1].status").value(409))
+                .andExpect(jsonPath("$.results[2].status").value(204));
+        mockMvc.perform(get("/api/employees/" + a)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/employees/" + b)).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Bulk requests over the configured batch size are rejected")
+    public void testBulkRequestCapped() throws Exception {
+        StringBuilder ids = new StringBuilder();
+        for (int i = 1; i <= 1001; i++) ids.append(i == 1 ? "" : ",").append(i);
+        mockMvc.perform(post("/api/employees/batch-get").contentType("application/json")
+                        .content("{\"ids\":[" + ids + "]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/employees/bulk-delete").contentType("application/json")
+                        .content("{\"items\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Creating a second employee with a taken email returns 409")
+    public void testDuplicateEmailReturns409() throws Exception {
+        String body = "{\"firstName\":\"Tim\",\"lastName\":\"Wolf\",\"email\":\"tim.wolf@firma.de\",\"position\":\"Entwickler\"}";
+        mockMvc.perform(post("/api/employees").contentType("application/json").content(body))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/employees").contentType("application/json").content(body))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value("409"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.employeeapp.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// The "replica" is a second pool on the same in-memory H2 database, so routing is observed
+// through the datasource.routing counters rather than through different data.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica_routing;DB_CLOSE_DELAY=-1",
+        "app.datasource.replicas.urls=jdbc:h2:mem:replica_routing;DB_CLOSE_DELAY=-1",
+        "app.datasource.read-your-writes-window=1m"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ReplicaRoutingTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @Test
+    @DisplayName("Reads go to the replica until the caller writes, then stay on the primary")
+    public void testReadsRoutedToReplicaUntilWrite() throws Exception {
+        double replicaBefore = routed("replica");
+        mockMvc.perform(get("/api/employees")).andExpect(status().isOk());
+        assertTrue(routed("replica") > replicaBefore, "list should be served by the replica");
+
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Rita\",\"lastName\":\"Replica\",\"email\":\"rita@firma.de\",\"position\":\"DBA\"}"))
+                .andExpect(status().isOk());
+
+        double replicaAfterWrite = routed("replica");
+        double primaryAfterWrite = routed("primary");
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.lastName == 'Replica')]").exists());
+        assertEquals(replicaAfterWrite, routed("replica"), "caller that just wrote must read from the primary");
+        assertTrue(routed("primary") > primaryAfterWrite);
+    }
+
+    @Test
+    @DisplayName("A rejected write does not pin the caller to the primary")
+    public void testFailedWriteDoesNotPin() throws Exception {
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Rita\",\"lastName\":\"Replica\",\"email\":\"not-an-email\",\"position\":\"DBA\"}"))
+                .andExpect(status().isBadRequest());
+
+        double replicaBefore = routed("replica");
+        mockMvc.perform(get("/api/employees")).andExpect(status().isOk());
+        assertTrue(routed("replica") > replicaBefore, "a 400 must not count as a write");
+    }
+
+    @Test
+    @DisplayName("A tagged list reads its tag and its rows from the same replica connection")
+    public void testTagAndPageFromOneReplica() throws Exception {
+        double primaryBefore = routed("primary");
+        double replicaBefore = routed("replica");
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"));
+        assertEquals(primaryBefore, routed("primary"), "the tag must not come from the primary");
+        assertEquals(replicaBefore + 1, routed("replica"));
+    }
+
+    private double routed(String target) {
+        return meterRegistry.get("datasource.routing").tag("target", target).counter().count();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.employeeapp.repository;
+
+import com.example.employeeapp.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The single-statement writes use PostgreSQL-only SQL (CTE with FOR UPDATE, UPDATE ... FROM,
+// RETURNING) that the H2 tests never run. Skipped when no Docker daemon is available.
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class PostgresWriteRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Autowired
+    private EmployeeWriteRepository employeeWrites;
+
+    @Autowired
+    private UserWriteRepository userWrites;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Updates and deletes return the old rows and honour the expected version")
+    public void testUpdateAndDeleteReturnOldRows() {
+        List<Long> ids = jdbc.queryForList("SELECT id FROM employees ORDER BY id LIMIT 3", Long.class);
+        long id = ids.get(0);
+        String position = jdbc.queryForObject("SELECT position FROM employees WHERE id = ?", String.class, id);
+
+        EmployeeWriteRepository.Change change = employeeWrites.update(id, 0L, Map.of("position", "Architekt")).orElseThrow();
+        assertEquals(position, change.before().getPosition());
+        assertEquals(0L, change.before().getVersion());
+        assertEquals("Architekt", change.after().getPosition());
+        assertEquals(1L, jdbc.queryForObject("SELECT version FROM employees WHERE id = ?", Long.class, id));
+        assertTrue(employeeWrites.update(id, 0L, Map.of("position", "Stale")).isEmpty());
+
+        List<EmployeeWriteRepository.Change> bulk = employeeWrites.updateAll(List.of(
+                new EmployeeWriteRepository.Target(ids.get(1), null),
+                new EmployeeWriteRepository.Target(ids.get(2), 0L),
+                new EmployeeWriteRepository.Target(id, 0L)), Map.of("position", "Team Lead"));
+        assertEquals(2, bulk.size());
+        assertEquals("Team Lead", bulk.get(0).after().getPosition());
+
+        Optional<Employee> deleted = employeeWrites.delete(id, 2L);
+        assertTrue(deleted.isEmpty());
+        deleted = employeeWrites.delete(id, 1L);
+        assertEquals("Architekt", deleted.orElseThrow().getPosition());
+        assertEquals(2, employeeWrites.deleteAll(List.of(
+                new EmployeeWriteRepository.Target(ids.get(1), null),
+                new EmployeeWriteRepository.Target(ids.get(2), 1L))).size());
+    }
+
+    @Test
+    @DisplayName("A nullable column can be cleared through the values CTE")
+    public void testNullValue() {
+        long id = jdbc.queryForObject("SELECT id FROM users WHERE username = 'max.mueller'", Long.class);
+        Map<String, String> values = new HashMap<>();
+        values.put("email", null);
+
+        UserWriteRepository.Change change = userWrites.update(id, null, values).orElseThrow();
+        assertEquals("max.mueller@firma.de", change.before().getEmail());
+        assertNull(jdbc.queryForObject("SELECT email FROM users WHERE id = ?", String.class, id));
+    }
+
+    @Test
+    @DisplayName("After waiting for a concurrent writer the old row is the one that writer committed")
+    public void testOldRowAfterConcurrentUpdate() throws Exception {
+        long id = jdbc.queryForObject("SELECT MIN(id) FROM employees", Long.class);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        CompletableFuture<Void> concurrent = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status -> {
+            jdbc.update("UPDATE employees SET position = 'Concurrent', version = version + 1 WHERE id = ?", id);
+            locked.countDown();
+            try {
+                commit.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+        CompletableFuture<Optional<EmployeeWriteRepository.Change>> update = CompletableFuture.supplyAsync(
+                () -> employeeWrites.update(id, null, Map.of("lastName", "Berger")));
+        Thread.sleep(200);
+        assertFalse(update.isDone(), "the update must wait for the row lock");
+        commit.countDown();
+        concurrent.get(10, TimeUnit.SECONDS);
+
+        EmployeeWriteRepository.Change change = update.get(10, TimeUnit.SECONDS).orElseThrow();
+        assertEquals("Concurrent", change.before().getPosition());
+        assertEquals(1L, change.before().getVersion());
+        assertEquals("Concurrent", change.after().getPosition());
+        assertEquals(2L, jdbc.queryForObject("SELECT version FROM employees WHERE id = ?", Long.class, id));
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.employeeapp.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("Only hashes with a lower cost than the current one need an upgrade")
+    public void testUpgradeEncodingOnlyUpwards() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("secret")));
+        assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+        assertTrue(encoder.matches("secret", new BCryptPasswordEncoder(6).encode("secret")));
+    }
+
+    @Test
+    @DisplayName("Calibration stays within the configured bounds")
+    public void testCalibrationIsClamped() {
+        assertEquals(4, AdaptiveBCryptPasswordEncoder.calibrate(Duration.ofNanos(1), 4, 12));
+        assertEquals(6, AdaptiveBCryptPasswordEncoder.calibrate(Duration.ofHours(1), 4, 6));
+        int cost = AdaptiveBCryptPasswordEncoder.calibrate(Duration.ofMillis(50), 4, 16);
+        assertTrue(cost >= 4 && cost <= 16);
+    }
+}
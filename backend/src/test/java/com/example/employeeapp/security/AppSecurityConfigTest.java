@@ -0,0 +1,57 @@
+package com.example.employeeapp.security;
+
+import com.example.employeeapp.service.CustomUserDetailsService;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class AppSecurityConfigTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        // Unlike the controller tests, run requests through the security filter chain
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext)
+                .addFilters(webApplicationContext.getBean("springSecurityFilterChain", Filter.class))
+                .build();
+    }
+
+    @Test
+    @DisplayName("The employee export and stream require authentication while the list stays public")
+    public void testExportRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/employees/export"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/employees/stream"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk());
+
+        String token = jwtTokenUtil.generateToken(userDetailsService.loadUserByUsername("max.mueller"));
+        mockMvc.perform(get("/api/employees/export").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees/stream").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.employeeapp.security;
+
+import com.example.employeeapp.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTest {
+
+    @Test
+    @DisplayName("Verifications beyond the limit are rejected immediately")
+    public void testConcurrentVerificationsAreCapped() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 1, 10, 1, registry);
+        try {
+            CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(PasswordHashingBusyException.class, () -> encoder.matches("a", "a"));
+            assertEquals(1, registry.get("auth.password.rejected").tag("reason", "throttled").counter().count());
+
+            release.countDown();
+            assertTrue(first.get(5, TimeUnit.SECONDS));
+            assertTrue(encoder.matches("b", "b"));
+        } finally {
+            release.countDown();
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Hashing runs on at most pool-size threads and work beyond the queue is rejected")
+    public void testPoolBoundsConcurrencyAndQueue() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        // Two hashing threads and room for one waiting task
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 2, 1, 10, registry);
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try {
+            List<CompletableFuture<String>> accepted = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                String password = "p" + i;
+                accepted.add(CompletableFuture.supplyAsync(() -> encoder.encode(password), callers));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while ((running.get() < 2 || queued(registry) < 1) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, running.get());
+            assertEquals(1, queued(registry));
+
+            assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("p3"));
+            assertEquals(1, registry.get("auth.password.rejected").tag("reason", "queue_full").counter().count());
+
+            release.countDown();
+            for (int i = 0; i < 3; i++) {
+                assertEquals("p" + i, accepted.get(i).get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(2, maxRunning.get());
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            encoder.destroy();
+        }
+    }
+
+    private static double queued(SimpleMeterRegistry registry) {
+        return registry.get("executor.queued").tag("name", "bcrypt").gauge().value();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.employeeapp.security;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtTokenUtilTest {
+
+    private final JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(100, new SimpleMeterRegistry());
+
+    private final UserDetails admin = new User("admin", "x", Collections.emptyList());
+
+    @Test
+    @DisplayName("Verified token is reused on the second check")
+    public void testVerifyIsCached() {
+        String token = jwtTokenUtil.generateToken(admin);
+
+        JwtTokenUtil.VerifiedToken first = jwtTokenUtil.verify(token);
+        JwtTokenUtil.VerifiedToken second = jwtTokenUtil.verify(token);
+
+        assertEquals("admin", first.username());
+        assertSame(first, second);
+        assertTrue(jwtTokenUtil.validateToken(token, admin));
+        assertFalse(jwtTokenUtil.validateToken(token, new User("other", "x", Collections.emptyList())));
+    }
+
+    @Test
+    @DisplayName("Tampered signature is rejected")
+    public void testTamperedTokenRejected() {
+        String token = jwtTokenUtil.generateToken(admin);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtTokenUtil.verify(tampered));
+        assertFalse(jwtTokenUtil.validateToken(tampered));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.employeeapp.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimitFilterTest {
+
+    private final FilterChain chain = (request, response) -> { };
+
+    @Test
+    @DisplayName("Login attempts beyond the per-IP budget get 429 with Retry-After")
+    public void testLoginLimitedPerIp() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(new ObjectMapper(), new SimpleMeterRegistry(),
+                true, 1000, 2, 1.0, 100, 100.0, 100, 100.0);
+
+        assertEquals(200, login(filter, "10.0.0.1").getStatus());
+        assertEquals(200, login(filter, "10.0.0.1").getStatus());
+        MockHttpServletResponse limited = login(filter, "10.0.0.1");
+        assertEquals(429, limited.getStatus());
+        assertEquals("1", limited.getHeader("Retry-After"));
+        assertTrue(limited.getContentAsString().contains("Too Many Requests"));
+
+        assertEquals(200, login(filter, "10.0.0.2").getStatus());
+    }
+
+    @Test
+    @DisplayName("Preflight requests are not limited")
+    public void testOptionsNotLimited() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(new ObjectMapper(), new SimpleMeterRegistry(),
+                true, 1000, 1, 1.0, 1, 1.0, 1, 1.0);
+
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/api/employees");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, chain);
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    private MockHttpServletResponse login(RateLimitFilter filter, String ip) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(ip);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
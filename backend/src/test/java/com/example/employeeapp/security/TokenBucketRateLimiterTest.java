@@ -0,0 +1,43 @@
+package com.example.employeeapp.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    @DisplayName("A full bucket allows a burst of its capacity, then refills at the configured rate")
+    public void testBurstAndRefill() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 2.0, 100, clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("ip:1.2.3.4"));
+        }
+        long wait = limiter.tryAcquire("ip:1.2.3.4");
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), wait);
+        // Other keys have their own bucket
+        assertEquals(0, limiter.tryAcquire("ip:5.6.7.8"));
+
+        clock.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("ip:1.2.3.4"));
+        assertTrue(limiter.tryAcquire("ip:1.2.3.4") > 0);
+    }
+
+    @Test
+    @DisplayName("Tracked keys are capped")
+    public void testKeysAreBounded() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1.0, 100, clock::get);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("ip:" + i);
+        }
+        assertTrue(limiter.size() <= 100, "size " + limiter.size());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.employeeapp.service;
+
+import com.example.employeeapp.model.User;
+import com.example.employeeapp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class CustomUserDetailsServiceTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @Test
+    @DisplayName("Repeated lookups are served from the cache and counted as hits")
+    public void testHitAndMissCounters() {
+        long misses = userDetailsService.getCacheMissCount();
+        long hits = userDetailsService.getCacheHitCount();
+
+        userDetailsService.loadUserByUsername("max.mueller");
+        assertEquals(misses + 1, userDetailsService.getCacheMissCount());
+        assertEquals(hits, userDetailsService.getCacheHitCount());
+
+        userDetailsService.loadUserByUsername("max.mueller");
+        assertEquals(misses + 1, userDetailsService.getCacheMissCount());
+        assertEquals(hits + 1, userDetailsService.getCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("A role change is only seen after evict() forces a reload")
+    public void testEvictAfterRoleChange() {
+        assertEquals("ROLE_USER", role(userDetailsService.loadUserByUsername("max.mueller")));
+
+        User user = userRepository.findByUsername("max.mueller").orElseThrow();
+        user.setRole("ROLE_ADMIN");
+        userRepository.save(user);
+        // Still the cached copy
+        assertEquals("ROLE_USER", role(userDetailsService.loadUserByUsername("max.mueller")));
+
+        long misses = userDetailsService.getCacheMissCount();
+        long invalidations = userDetailsService.getCacheInvalidationCount();
+        userDetailsService.evict("max.mueller");
+
+        assertEquals("ROLE_ADMIN", role(userDetailsService.loadUserByUsername("max.mueller")));
+        assertEquals(misses + 1, userDetailsService.getCacheMissCount());
+        assertEquals(invalidations + 1, userDetailsService.getCacheInvalidationCount());
+    }
+
+    @Test
+    @DisplayName("A password change is only seen after evict() forces a reload")
+    public void testEvictAfterPasswordChange() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        assertTrue(encoder.matches("password123", userDetailsService.loadUserByUsername("max.mueller").getPassword()));
+
+        User user = userRepository.findByUsername("max.mueller").orElseThrow();
+        user.setPassword(encoder.encode("changed"));
+        userRepository.save(user);
+        assertTrue(encoder.matches("password123", userDetailsService.loadUserByUsername("max.mueller").getPassword()));
+
+        long misses = userDetailsService.getCacheMissCount();
+        userDetailsService.evict("max.mueller");
+
+        assertTrue(encoder.matches("changed", userDetailsService.loadUserByUsername("max.mueller").getPassword()));
+        assertEquals(misses + 1, userDetailsService.getCacheMissCount());
+    }
+
+    @Test
+    @DisplayName("Granting and revoking a role through the API take effect on the next lookup")
+    public void testRoleEndpointEvicts() throws Exception {
+        userDetailsService.loadUserByUsername("max.mueller");
+        User user = userRepository.findByUsername("max.mueller").orElseThrow();
+        long invalidations = userDetailsService.getCacheInvalidationCount();
+
+        mockMvc.perform(put("/api/users/" + user.getId() + "/role")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\":\"ADMIN\"}"))
+                .andExpect(status().isOk());
+
+        assertEquals(invalidations + 1, userDetailsService.getCacheInvalidationCount());
+        assertEquals("ROLE_ADMIN", role(userDetailsService.loadUserByUsername("max.mueller")));
+
+        // Revoking must apply at once as well, not when the cached query result expires
+        mockMvc.perform(put("/api/users/" + user.getId() + "/role")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\":\"USER\"}"))
+                .andExpect(status().isOk());
+        assertEquals("ROLE_USER", role(userDetailsService.loadUserByUsername("max.mueller")));
+    }
+
+    private static String role(UserDetails details) {
+        return details.getAuthorities().stream().map(GrantedAuthority::getAuthority).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.employeeapp.service;
+
+import com.example.employeeapp.controller.KeysetCursor;
+import com.example.employeeapp.model.Employee;
+import com.example.employeeapp.repository.EmployeeQueryRepository;
+import com.example.employeeapp.repository.EmployeeSpecifications;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "app.employees.read-model.enabled=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class EmployeeReadModelTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private EmployeeReadModel readModel;
+
+    @Autowired
+    private EmployeeQueryRepository queryRepo;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @Test
+    @DisplayName("Pages from the read model match the database for every filter and sort")
+    public void testPagesMatchDatabase() throws Exception {
+        create("Lena", "Müller", "lena.mueller@Partner.com", "Softwareentwickler");
+        create("Max", "Müller", "max@firma.de", "Softwareentwickler");
+        long ole = create("Ole", "Meyer", "o@partner.com", "UX Designer");
+        long tom = create("Tom", "Weber", "tom.weber@firma.de", "Buchhalter");
+        mockMvc.perform(patch("/api/employees/" + tom).contentType("application/merge-patch+json")
+                        .content("{\"position\":\"Architekt\",\"email\":\"tom@partner.com\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/employees/" + ole)).andExpect(status().isNoContent());
+        assertTrue(readModel.isServing());
+
+        List<List<Sort.Order>> orders = List.of(
+                List.of(Sort.Order.asc("id")),
+                List.of(Sort.Order.desc("id")),
+                List.of(Sort.Order.asc("lastName"), Sort.Order.asc("id")),
+                List.of(Sort.Order.desc("lastName"), Sort.Order.asc("firstName"), Sort.Order.asc("id")),
+                List.of(Sort.Order.asc("email"), Sort.Order.asc("id")),
+                List.of(Sort.Order.desc("position"), Sort.Order.desc("id")));
+        List<EmployeeReadModel.Filter> filters = List.of(
+                new EmployeeReadModel.Filter(null, null, null),
+                new EmployeeReadModel.Filter("Softwareentwickler", null, null),
+                new EmployeeReadModel.Filter(null, "PARTNER.com", null),
+                new EmployeeReadModel.Filter(null, null, "m"),
+                new EmployeeReadModel.Filter("Architekt", "partner.com", "t"),
+                new EmployeeReadModel.Filter("Astronaut", null, null));
+        for (List<Sort.Order> order : orders) {
+            for (EmployeeReadModel.Filter filter : filters) {
+                assertEquals(walk(filter, order, true), walk(filter, order, false), order + " " + filter);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Late puts do not overwrite a newer row or bring back a deleted one")
+    public void testOutOfOrderWrites() {
+        List<Sort.Order> byId = List.of(Sort.Order.asc("id"));
+        EmployeeReadModel.Filter astronauts = new EmployeeReadModel.Filter("Astronaut", null, null);
+        Set<String> fields = Set.of("id", "lastName", "version");
+
+        readModel.put(employee(1_000_000L, 2L, "Neu"));
+        readModel.put(employee(1_000_000L, 1L, "Alt"));
+        List<Map<String, Object>> rows = readModel.find(astronauts, byId, null, fields, 10);
+        assertEquals(1, rows.size());
+        assertEquals("Neu", rows.get(0).get("lastName"));
+        assertEquals(2L, ((Number) rows.get(0).get("version")).longValue());
+
+        readModel.remove(employee(1_000_000L, 2L, "Neu"));
+        readModel.put(employee(1_000_000L, 2L, "Neu"));
+        assertTrue(readModel.find(astronauts, byId, null, fields, 10).isEmpty());
+    }
+
+    private static Employee employee(long id, long version, String lastName) {
+        Employee e = new Employee();
+        e.setId(id);
+        e.setVersion(version);
+        e.setFirstName("Sally");
+        e.setLastName(lastName);
+        e.setEmail("sally@firma.de");
+        e.setPosition("Astronaut");
+        return e;
+    }
+
+    // All pages of three rows, following the cursor like a client would
+    private List<Map<String, Object>> walk(EmployeeReadModel.Filter filter, List<Sort.Order> order, boolean fromModel) {
+        Set<String> fields = new LinkedHashSet<>(EmployeeQueryRepository.FIELDS);
+        StringBuilder sortKey = new StringBuilder();
+        for (Sort.Order o : order) sortKey.append(sortKey.length() == 0 ? "" : ",").append(o.isAscending() ? "" : "-").append(o.getProperty());
+        List<Map<String, Object>> all = new ArrayList<>();
+        String cursor = null;
+        while (true) {
+            List<Map<String, Object>> page;
+            if (fromModel) {
+                page = readModel.find(filter, order, cursor == null ? null : KeysetCursor.decode(cursor, sortKey.toString()), fields, 3);
+            } else {
+                List<Specification<Employee>> specs = new ArrayList<>();
+                if (filter.position() != null) specs.add(EmployeeSpecifications.hasPosition(filter.position()));
+                if (filter.emailDomain() != null) specs.add(EmployeeSpecifications.hasEmailDomain(filter.emailDomain()));
+                if (filter.name() != null) specs.add(EmployeeSpecifications.nameStartsWith(filter.name()));
+                if (cursor != null) specs.add(EmployeeSpecifications.after(order, KeysetCursor.decode(cursor, sortKey.toString())));
+                page = queryRepo.find(Specification.allOf(specs), order, fields, 3);
+            }
+            all.addAll(page);
+            if (page.size() < 3) return all;
+            Map<String, Object> last = page.get(2);
+            List<Object> values = new ArrayList<>();
+            for (Sort.Order o : order) values.add(last.get(o.getProperty()));
+            cursor = KeysetCursor.encode(sortKey.toString(), values);
+        }
+    }
+
+    private long create(String firstName, String lastName, String email, String position) throws Exception {
+        String body = "{\"firstName\":\"" + firstName + "\",\"lastName\":\"" + lastName + "\",\"email\":\"" + email
+                + "\",\"position\":\"" + position + "\"}";
+        String response = mockMvc.perform(post("/api/employees").contentType("application/json").content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Number id = JsonPath.read(response, "$.id");
+        return id.longValue();
+    }
+}
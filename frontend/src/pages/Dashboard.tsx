@@ -1,6 +1,6 @@
 import { useEffect, useState } from 'react';
 import { Link } from 'react-router-dom';
-import api from '../services/api';
+import api, { getEmployeeStats } from '../services/api';
 import StatCard from '../components/StatCard';
 
 export default function Dashboard({ username }: any) {
@@ -13,20 +13,14 @@ export default function Dashboard({ username }: any) {
   const fetchData = async () => {
     setLoading(true);
     try {
-      const [uRes, eRes] = await Promise.all([api.get('/users'), api.get('/employees')]);
+      // /employees is paged, so counts come from the stats endpoint rather than a list length
+      const [uRes, stats] = await Promise.all([api.get('/users'), getEmployeeStats()]);
       const users = uRes.data || [];
-      const employees = eRes.data || [];
       setUsersCount(users.length);
-      setEmployeesCount(employees.length);
+      setEmployeesCount(stats.total);
       // recent users: take last created if available, fallback to last items
       setRecentUsers(users.slice(-5).reverse());
-      // dept aggregation
-      const agg: Record<string, number> = {};
-      employees.forEach((emp: any) => {
-        const d = (emp.department || 'Unknown');
-        agg[d] = (agg[d] || 0) + 1;
-      });
-      setDeptAgg(agg);
+      setDeptAgg(stats.byPosition || {});
     } catch (err) {
       console.error('Failed to load dashboard data', err);
     } finally {
@@ -59,7 +53,7 @@ export default function Dashboard({ username }: any) {
 
       <div style={{ display: 'flex', gap: 18, marginTop: 18, alignItems: 'flex-start' }}>
         <div style={{ flex: 1 }}>
-          <h4 style={{ marginTop: 0 }}>Employees by Department</h4>
+          <h4 style={{ marginTop: 0 }}>Employees by Position</h4>
           {deptEntries.length === 0 ? <div>No data</div> : (
             <div style={{ display: 'flex', gap: 8, alignItems: 'flex-end', height: 120 }}>
               {deptEntries.map(([dept, count]) => {
@@ -1,6 +1,5 @@
 import { useEffect, useState } from 'react';
-import api from '../services/api';
-import { getToken } from '../services/auth';
+import api, { getEmployees } from '../services/api';
 
 type Employee = { id?: number; firstName: string; lastName: string; email?: string; position?: string };
 
@@ -17,11 +16,8 @@ export default function EmployeesPage({ username }: { username?: string }) {
   async function fetchList() {
     setLoading(true);
     try {
-      const token = getToken();
-      const res = await api.get('/employees', {
-        headers: token ? { Authorization: `Bearer ${token}` } : undefined,
-      });
-      setList(res.data);
+      // Follows X-Next-Cursor; a single GET /employees only returns the first page
+      setList(await getEmployees());
     } catch (err: any) {
       console.error('Failed to fetch employees', err);
       setError((err?.response?.data && typeof err.response.data === 'string') ? err.response.data : 'Failed to load employees');
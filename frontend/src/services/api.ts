@@ -36,9 +36,31 @@ export interface Employee {
   salary: number;
 }
 
+// The list is paged: each response holds at most `size` rows and, unless it is the last
+// page, an X-Next-Cursor header to pass back as `cursor` for the next one.
+const PAGE_SIZE = 1000;
+
 // Employee API functions
 export const getEmployees = async (): Promise<Employee[]> => {
-  const response = await api.get('/employees');
+  const all: Employee[] = [];
+  let cursor: string | undefined;
+  do {
+    const response = await api.get('/employees', { params: { size: PAGE_SIZE, cursor } });
+    all.push(...response.data);
+    cursor = response.headers['x-next-cursor'] || undefined;
+  } while (cursor);
+  return all;
+};
+
+// Totals from the server-side counters; no need to load every employee to count them
+export interface EmployeeStats {
+  total: number;
+  byPosition: Record<string, number>;
+  byEmailDomain: Record<string, number>;
+}
+
+export const getEmployeeStats = async (): Promise<EmployeeStats> => {
+  const response = await api.get('/employees/stats');
   return response.data;
 };
 